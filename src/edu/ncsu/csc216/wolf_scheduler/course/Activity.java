@@ -11,12 +11,16 @@ public abstract class Activity implements Conflict {
 
 	/** Activity's title. */
 	private String title;
-	/** Activity's meeting days */
+	/** Activity's meeting days as given, kept for display and export */
 	private String meetingDays;
-	/** Activity's starting time */
-	private int startTime;
-	/** Activity's ending time */
-	private int endTime;
+	/** One bit for each day of the week the Activity meets, plus ARRANGED if it is arranged */
+	private byte meetingDaysMask;
+	/** Activity's starting time in minutes since midnight */
+	private short startMinutes;
+	/** Activity's ending time in minutes since midnight */
+	private short endMinutes;
+	/** One bit for each week of a REPEAT_CYCLE week cycle the Activity meets in */
+	private short weekMask = ALL_WEEKS;
 	/** Upper time */
 	public static final int UPPER_TIME = 2359;
 	/** Upper hour */
@@ -27,6 +31,18 @@ public abstract class Activity implements Conflict {
 	public static final int AFTERNOON = 1259;
 	/** Afternoon Cut-Off */
 	public static final int AFTERNOON_CUTOFF = 1200;
+	/** Days of the week in meetingDaysMask bit order */
+	private static final String WEEK_DAYS = "UMTWHFS";
+	/** Bits of meetingDaysMask that hold days of the week */
+	private static final int WEEK_DAYS_MASK = 0x7F;
+	/** Bit of meetingDaysMask set for arranged meeting days */
+	private static final int ARRANGED = 0x80;
+	/** Minutes in an hour */
+	private static final int MINUTES_PER_HOUR = 60;
+	/** Number of weeks after which every repeat period starts over, the LCM of 1 through 4 */
+	static final int REPEAT_CYCLE = 12;
+	/** Week mask of an Activity that meets every week */
+	private static final short ALL_WEEKS = (1 << REPEAT_CYCLE) - 1;
 
 	
 	/**
@@ -59,12 +75,22 @@ public abstract class Activity implements Conflict {
 	 * @param title the title to set
 	 */
 	public void setTitle(String title) {
-		if (title == null || title.equals("")) {
+		if (!isValidTitle(title)) {
 			throw new IllegalArgumentException();
 		}
 		this.title = title;
 	}
 
+	/**
+	 * Checks if the given title can be set on an Activity.
+	 * 
+	 * @param title the title to check
+	 * @return true if the title is not null or empty
+	 */
+	static boolean isValidTitle(String title) {
+		return title != null && !title.equals("");
+	}
+
 	/**
 	 * Returns the Activity's meeting days.
 	 * 
@@ -81,6 +107,73 @@ public abstract class Activity implements Conflict {
 	 */
 	public void setMeetingDays(String meetingDays) {
 		this.meetingDays = meetingDays;
+		this.meetingDaysMask = (byte) toDaysMask(meetingDays);
+	}
+
+	/**
+	 * Returns the Activity's meeting days as a mask with one bit for each day of the week,
+	 * Sunday in the lowest bit through Saturday.  Arranged Activities have no bits set.
+	 * 
+	 * @return the meeting days mask
+	 */
+	public int getMeetingDaysMask() {
+		return meetingDaysMask & WEEK_DAYS_MASK;
+	}
+
+	/**
+	 * Returns the weeks of a REPEAT_CYCLE week cycle that the Activity meets in, one bit per week.
+	 * 
+	 * @return the week mask
+	 */
+	int getWeekMask() {
+		return weekMask;
+	}
+
+	/**
+	 * Sets the weeks the Activity meets in from a repeat period and phase.  The Activity
+	 * meets in every week w where w is congruent to phase modulo period.  Since period
+	 * divides REPEAT_CYCLE, two Activities share a week exactly when their phases are
+	 * congruent modulo the gcd of their periods, which is when their week masks intersect.
+	 * 
+	 * @param period number of weeks between meetings, which must divide REPEAT_CYCLE
+	 * @param phase  first week the Activity meets in, counting from 0
+	 */
+	void setWeeks(int period, int phase) {
+		int mask = 0;
+		for (int week = phase % period; week < REPEAT_CYCLE; week += period) {
+			mask |= 1 << week;
+		}
+		weekMask = (short) mask;
+	}
+
+	/**
+	 * Checks if the Activity's meeting days are arranged.
+	 * 
+	 * @return true if the meeting days are arranged
+	 */
+	private boolean isArranged() {
+		return (meetingDaysMask & ARRANGED) != 0;
+	}
+
+	/**
+	 * Converts meeting days into a mask with one bit for each day of the week.  Arranged
+	 * meeting days have the ARRANGED bit instead, and any other character has no bit.
+	 * 
+	 * @param meetingDays the meeting days to convert
+	 * @return the mask of meeting days
+	 */
+	private static int toDaysMask(String meetingDays) {
+		if (meetingDays.length() > 0 && meetingDays.charAt(0) == 'A') {
+			return ARRANGED;
+		}
+		int mask = 0;
+		for (int i = 0; i < meetingDays.length(); i++) {
+			int day = WEEK_DAYS.indexOf(meetingDays.charAt(i));
+			if (day >= 0) {
+				mask |= 1 << day;
+			}
+		}
+		return mask;
 	}
 
 	/**
@@ -89,7 +182,16 @@ public abstract class Activity implements Conflict {
 	 * @return the startTime
 	 */
 	public int getStartTime() {
-		return startTime;
+		return toMilitaryTime(startMinutes);
+	}
+
+	/**
+	 * Returns the Activity's start time in minutes since midnight.
+	 * 
+	 * @return the start time in minutes
+	 */
+	public int getStartMinutes() {
+		return startMinutes;
 	}
 
 	/**
@@ -98,7 +200,16 @@ public abstract class Activity implements Conflict {
 	 * @return the endTime
 	 */
 	public int getEndTime() {
-		return endTime;
+		return toMilitaryTime(endMinutes);
+	}
+
+	/**
+	 * Returns the Activity's end time in minutes since midnight.
+	 * 
+	 * @return the end time in minutes
+	 */
+	public int getEndMinutes() {
+		return endMinutes;
 	}
 
 	/**
@@ -108,27 +219,72 @@ public abstract class Activity implements Conflict {
 	 * @param endTime   the endTime to set
 	 */
 	public void setActivityTime(int startTime, int endTime) {
-		if (startTime < 0 || startTime > UPPER_TIME) {
+		if (!isValidTime(isArranged(), startTime, endTime)) {
 			throw new IllegalArgumentException();
 		}
+	
+		this.startMinutes = (short) toMinutes(startTime);
+		this.endMinutes = (short) toMinutes(endTime);
+	}
+
+	/**
+	 * Converts a military time into minutes since midnight.
+	 * 
+	 * @param time the military time
+	 * @return the time in minutes
+	 */
+	private static int toMinutes(int time) {
+		return time / HOUR_CONVERTER * MINUTES_PER_HOUR + time % HOUR_CONVERTER;
+	}
+
+	/**
+	 * Converts minutes since midnight into a military time.
+	 * 
+	 * @param minutes the time in minutes
+	 * @return the military time
+	 */
+	static int toMilitaryTime(int minutes) {
+		return minutes / MINUTES_PER_HOUR * HOUR_CONVERTER + minutes % MINUTES_PER_HOUR;
+	}
+
+	/**
+	 * Checks if the given start and end time can be set on an Activity with the given meeting days.
+	 * 
+	 * @param meetingDays the meeting days of the Activity
+	 * @param startTime   the startTime to check
+	 * @param endTime     the endTime to check
+	 * @return true if both times are valid military times, the end is not before the start,
+	 * 			and both are 0 if the Activity is arranged
+	 */
+	static boolean isValidTime(String meetingDays, int startTime, int endTime) {
+		return isValidTime(meetingDays.charAt(0) == 'A', startTime, endTime);
+	}
+
+	/**
+	 * Checks if the given start and end time can be set on an Activity.
+	 * 
+	 * @param arranged    whether the Activity is arranged
+	 * @param startTime   the startTime to check
+	 * @param endTime     the endTime to check
+	 * @return true if the times are valid
+	 */
+	private static boolean isValidTime(boolean arranged, int startTime, int endTime) {
+		if (startTime < 0 || startTime > UPPER_TIME) {
+			return false;
+		}
 		if (endTime < 0 || endTime > UPPER_TIME) {
-			throw new IllegalArgumentException();
+			return false;
 		}
 		if (endTime < startTime) {
-			throw new IllegalArgumentException();
+			return false;
 		}
-		if (meetingDays.charAt(0) == 'A' && (startTime != 0 || endTime != 0)) {
-			throw new IllegalArgumentException();
+		if (arranged && (startTime != 0 || endTime != 0)) {
+			return false;
 		}
 		if (startTime % HOUR_CONVERTER > UPPER_HOUR) {
-			throw new IllegalArgumentException();
-		}
-		if (endTime % HOUR_CONVERTER > UPPER_HOUR) {
-			throw new IllegalArgumentException();
+			return false;
 		}
-	
-		this.startTime = startTime;
-		this.endTime = endTime;
+		return endTime % HOUR_CONVERTER <= UPPER_HOUR;
 	}
 
 	/**
@@ -137,55 +293,37 @@ public abstract class Activity implements Conflict {
 	 * @return the meeting string
 	 */
 	public String getMeetingString() {
-		if (meetingDays.charAt(0) == 'A') {
+		if (isArranged()) {
 			return "Arranged";
 		}
+		return meetingDays + " " + toDisplayTime(startMinutes) + "-" + toDisplayTime(endMinutes);
+	}
+
+	/**
+	 * Converts minutes since midnight into a 12 hour display time such as 1:30PM.
+	 * 
+	 * @param minutes the time in minutes
+	 * @return the display time
+	 */
+	static String toDisplayTime(int minutes) {
+		int hour = minutes / MINUTES_PER_HOUR;
+		int minute = minutes % MINUTES_PER_HOUR;
+		String s = "";
 	
-		boolean isStartAfternoon = false;
-		boolean isEndAfternoon = false;
-		String s = meetingDays + " ";
-	
-		if (startTime >= AFTERNOON_CUTOFF) {
-			isStartAfternoon = true;
-		}
-		if (startTime > AFTERNOON) {
-			s += (startTime - AFTERNOON_CUTOFF) / HOUR_CONVERTER;
-		} else {
-			s += startTime / HOUR_CONVERTER;
-		}
-	
-		s += ":";
-		s += startTime % HOUR_CONVERTER;
-	
-		if (startTime % HOUR_CONVERTER == 0) {
-			s += "0";
-		}
-	
-		if (isStartAfternoon) {
-			s += "PM";
-		} else {
-			s += "AM";
-		}
-	
-		s += "-";
-	
-		if (endTime >= AFTERNOON_CUTOFF) {
-			isEndAfternoon = true;
-		}
-		if (endTime > AFTERNOON) {
-			s += (endTime - AFTERNOON_CUTOFF) / HOUR_CONVERTER;
+		if (hour > AFTERNOON / HOUR_CONVERTER) {
+			s += hour - AFTERNOON_CUTOFF / HOUR_CONVERTER;
 		} else {
-			s += endTime / HOUR_CONVERTER;
+			s += hour;
 		}
 	
 		s += ":";
-		s += endTime % HOUR_CONVERTER;
+		s += minute;
 	
-		if (endTime % HOUR_CONVERTER == 0) {
+		if (minute == 0) {
 			s += "0";
 		}
 	
-		if (isEndAfternoon) {
+		if (hour >= AFTERNOON_CUTOFF / HOUR_CONVERTER) {
 			s += "PM";
 		} else {
 			s += "AM";
@@ -221,35 +359,49 @@ public abstract class Activity implements Conflict {
 
 
 	/**
-	 * Checks for any conflict within the Activity.
+	 * Checks for any conflict within the Activity.  Two Activities conflict if they meet in
+	 * a common week, share a meeting day, and their times overlap, including when one ends in
+	 * the same minute the other starts.  Arranged Activities never conflict.
 	 * 
 	 * @param possibleConflictingActivity 	Activity being checked if it conflicts with another Activity.
 	 * @throws ConflictException			Exception thrown when there is a conflict between Activities.
 	 */
 	@Override
 	public void checkConflict(Activity possibleConflictingActivity) throws ConflictException {
+		if (conflictsWith(possibleConflictingActivity, null)) {
+			throw new ConflictException();
+		}
+	}
+
+
+	/**
+	 * Checks for a conflict with another Activity without throwing an exception.  The
+	 * Activities conflict under the same rules as checkConflict.
+	 * 
+	 * @param possibleConflictingActivity 	Activity being checked if it conflicts with another Activity.
+	 * @param result						result to fill in with the conflicting day and overlap,
+	 * 										or null if only the answer is needed
+	 * @return true if the Activities conflict
+	 */
+	@Override
+	public boolean conflictsWith(Activity possibleConflictingActivity, ConflictResult result) {
+		int sharedDays = meetingDaysMask & possibleConflictingActivity.meetingDaysMask & WEEK_DAYS_MASK;
+		if ((weekMask & possibleConflictingActivity.weekMask) == 0) {
+			sharedDays = 0;
+		}
+		int overlapStart = Math.max(startMinutes, possibleConflictingActivity.startMinutes);
+		int overlapEnd = Math.min(endMinutes, possibleConflictingActivity.endMinutes);
 		
-		for (int i = 0; i < this.getMeetingDays().length(); i++) {
-			
-			char thisCurrent = this.getMeetingDays().charAt(i);
-			
-			for(int j = 0; j < possibleConflictingActivity.getMeetingDays().length(); j++) {
-				
-				char otherCurrent = possibleConflictingActivity.getMeetingDays().charAt(j);
-				
-				if ((thisCurrent == otherCurrent) && (thisCurrent != 'A' || otherCurrent != 'A')
-						&& ((possibleConflictingActivity.getStartTime() >= this.getStartTime() 
-						&& possibleConflictingActivity.getStartTime() <= this.getEndTime())
-						|| possibleConflictingActivity.getEndTime() >= this.getStartTime() 
-						&& possibleConflictingActivity.getEndTime() <= this.getEndTime()
-						|| ((this.getStartTime() >= possibleConflictingActivity.getStartTime()
-						&& this.getStartTime() <= possibleConflictingActivity.getEndTime())
-						|| this.getEndTime() >= possibleConflictingActivity.getStartTime()
-						&& this.getEndTime() <= possibleConflictingActivity.getEndTime()))) {
-							throw new ConflictException();
-				}
+		if (sharedDays == 0 || overlapStart > overlapEnd) {
+			if (result != null) {
+				result.clear();
 			}
+			return false;
+		}
+		if (result != null) {
+			result.set(WEEK_DAYS.charAt(Integer.numberOfTrailingZeros(sharedDays)), overlapStart, overlapEnd);
 		}
+		return true;
 	}
 
 
@@ -260,9 +412,9 @@ public abstract class Activity implements Conflict {
 	public int hashCode() {
 		final int prime = 31;
 		int result = 1;
-		result = prime * result + endTime;
+		result = prime * result + endMinutes;
 		result = prime * result + ((meetingDays == null) ? 0 : meetingDays.hashCode());
-		result = prime * result + startTime;
+		result = prime * result + startMinutes;
 		result = prime * result + ((title == null) ? 0 : title.hashCode());
 		return result;
 	}
@@ -286,14 +438,14 @@ public abstract class Activity implements Conflict {
 		if (getClass() != obj.getClass())
 			return false;
 		Activity other = (Activity) obj;
-		if (endTime != other.endTime)
+		if (endMinutes != other.endMinutes)
 			return false;
 		if (meetingDays == null) {
 			if (other.meetingDays != null)
 				return false;
 		} else if (!meetingDays.equals(other.meetingDays))
 			return false;
-		if (startTime != other.startTime)
+		if (startMinutes != other.startMinutes)
 			return false;
 		if (title == null) {
 			if (other.title != null)
@@ -0,0 +1,129 @@
+/**
+ * 
+ */
+package edu.ncsu.csc216.wolf_scheduler.course;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Columnar copy of the meeting days, weeks, and times of many Activities, for checking
+ * candidates against all of them at once.  The start times, end times, meeting day masks,
+ * and week masks are kept in parallel int arrays, and the conflict test for each Activity
+ * is done with integer arithmetic and no branches, so the loop runs at a steady rate the
+ * JIT can unroll.  A conflict means the same as Activity.conflictsWith.
+ * 
+ * @author Bilal Mohamad
+ *
+ */
+public class ActivityBatch {
+
+	/** Number of bits in a result word */
+	private static final int WORD_BITS = Long.SIZE;
+	/** Start time of each Activity in minutes since midnight */
+	private final int[] startTimes;
+	/** End time of each Activity in minutes since midnight */
+	private final int[] endTimes;
+	/** Meeting days mask of each Activity */
+	private final int[] dayMasks;
+	/** Week mask of each Activity */
+	private final int[] weekMasks;
+
+
+	/**
+	 * Copies the meeting days, weeks, and times of the given Activities.  Later changes to the
+	 * Activities are not seen by the batch.
+	 * 
+	 * @param activities Activities to check candidates against, numbered by list position
+	 * @throws IllegalArgumentException if the list is null
+	 */
+	public ActivityBatch(List<? extends Activity> activities) {
+		if (activities == null) {
+			throw new IllegalArgumentException("Activities cannot be null.");
+		}
+		int size = activities.size();
+		startTimes = new int[size];
+		endTimes = new int[size];
+		dayMasks = new int[size];
+		weekMasks = new int[size];
+		for (int i = 0; i < size; i++) {
+			Activity a = activities.get(i);
+			startTimes[i] = a.getStartMinutes();
+			endTimes[i] = a.getEndMinutes();
+			dayMasks[i] = a.getMeetingDaysMask();
+			weekMasks[i] = a.getWeekMask();
+		}
+	}
+
+
+	/**
+	 * Returns the number of Activities in the batch.
+	 * 
+	 * @return the size of the batch
+	 */
+	public int size() {
+		return startTimes.length;
+	}
+
+
+	/**
+	 * Finds the Activities in the batch that conflict with a candidate.
+	 * 
+	 * @param candidate Activity to check
+	 * @return a new BitSet of the positions of the conflicting Activities
+	 */
+	public BitSet findConflicts(Activity candidate) {
+		long[] words = new long[(size() + WORD_BITS - 1) / WORD_BITS];
+		addConflicts(candidate, words);
+		return BitSet.valueOf(words);
+	}
+
+
+	/**
+	 * Finds the Activities in the batch that conflict with any of several candidates.
+	 * 
+	 * @param candidates Activities to check
+	 * @return a new BitSet of the positions of the Activities that conflict with at least one candidate
+	 */
+	public BitSet findConflicts(List<? extends Activity> candidates) {
+		long[] words = new long[(size() + WORD_BITS - 1) / WORD_BITS];
+		for (int i = 0; i < candidates.size(); i++) {
+			addConflicts(candidates.get(i), words);
+		}
+		return BitSet.valueOf(words);
+	}
+
+
+	/**
+	 * Sets the bits of the Activities that conflict with a candidate.  Times are minutes
+	 * within one day and masks are at most twelve bits, so the differences below cannot
+	 * overflow and their sign bit is the result of the comparison.
+	 * 
+	 * @param candidate Activity to check
+	 * @param words     result bits to add to
+	 */
+	private void addConflicts(Activity candidate, long[] words) {
+		int start = candidate.getStartMinutes();
+		int end = candidate.getEndMinutes();
+		int mask = candidate.getMeetingDaysMask();
+		int weeks = candidate.getWeekMask();
+		int size = size();
+
+		for (int w = 0; w < words.length; w++) {
+			long word = 0;
+			int base = w * WORD_BITS;
+			int limit = Math.min(WORD_BITS, size - base);
+			for (int b = 0; b < limit; b++) {
+				int i = base + b;
+				//1 if the Activities share a week and a day, the batch Activity starts by the
+				//end of the candidate, and the candidate starts by the end of the batch Activity
+				int sharesDay = -(dayMasks[i] & mask) >>> 31 & -(weekMasks[i] & weeks) >>> 31;
+				int startsBefore = ~(end - startTimes[i]) >>> 31;
+				int endsAfter = ~(endTimes[i] - start) >>> 31;
+				word |= (long) (sharesDay & startsBefore & endsAfter) << b;
+			}
+			words[w] |= word;
+		}
+	}
+
+}
@@ -17,4 +17,14 @@ public interface Conflict {
 	 * @throws ConflictException			Exception thrown when there is a conflict between Activities.
 	 */
 	void checkConflict(Activity possibleConflictingActivity) throws ConflictException;
+
+	/**
+	 * Checks for a conflict with another Activity without throwing an exception.
+	 * 
+	 * @param possibleConflictingActivity 	Activity being checked if it conflicts with another Activity.
+	 * @param result						result to fill in with the conflicting day and overlap,
+	 * 										or null if only the answer is needed
+	 * @return true if the Activities conflict
+	 */
+	boolean conflictsWith(Activity possibleConflictingActivity, ConflictResult result);
 }
@@ -0,0 +1,105 @@
+/**
+ * 
+ */
+package edu.ncsu.csc216.wolf_scheduler.course;
+
+/**
+ * Details of a conflict found by Conflict.conflictsWith.  A ConflictResult can be passed to
+ * every call of a scan so that no objects are created per comparison; each call overwrites
+ * the previous details.
+ * 
+ * @author Bilal Mohamad
+ *
+ */
+public class ConflictResult {
+
+	/** Whether the last comparison found a conflict */
+	private boolean conflict;
+	/** First meeting day the Activities share */
+	private char day;
+	/** Start of the time both Activities meet, in minutes since midnight */
+	private int overlapStart;
+	/** End of the time both Activities meet, in minutes since midnight */
+	private int overlapEnd;
+
+
+	/**
+	 * Checks if the last comparison found a conflict.
+	 * 
+	 * @return true if there was a conflict
+	 */
+	public boolean isConflict() {
+		return conflict;
+	}
+
+
+	/**
+	 * Returns the first meeting day, in Sunday to Saturday order, that the conflicting
+	 * Activities share.
+	 * 
+	 * @return the conflicting day, or 0 if there was no conflict
+	 */
+	public char getDay() {
+		return day;
+	}
+
+
+	/**
+	 * Returns the start of the time both Activities meet.
+	 * 
+	 * @return the start of the overlap as a military time, or 0 if there was no conflict
+	 */
+	public int getOverlapStart() {
+		return Activity.toMilitaryTime(overlapStart);
+	}
+
+
+	/**
+	 * Returns the end of the time both Activities meet.
+	 * 
+	 * @return the end of the overlap as a military time, or 0 if there was no conflict
+	 */
+	public int getOverlapEnd() {
+		return Activity.toMilitaryTime(overlapEnd);
+	}
+
+
+	/**
+	 * Returns the conflicting day and overlap in the same form as Activity.getMeetingString.
+	 * 
+	 * @return the overlap such as W 2:00PM-2:45PM, or an empty String if there was no conflict
+	 */
+	public String getOverlapString() {
+		if (!conflict) {
+			return "";
+		}
+		return day + " " + Activity.toDisplayTime(overlapStart) + "-" + Activity.toDisplayTime(overlapEnd);
+	}
+
+
+	/**
+	 * Records a conflict.
+	 * 
+	 * @param day          first shared meeting day
+	 * @param overlapStart start of the overlap in minutes since midnight
+	 * @param overlapEnd   end of the overlap in minutes since midnight
+	 */
+	void set(char day, int overlapStart, int overlapEnd) {
+		this.conflict = true;
+		this.day = day;
+		this.overlapStart = overlapStart;
+		this.overlapEnd = overlapEnd;
+	}
+
+
+	/**
+	 * Records that there was no conflict.
+	 */
+	void clear() {
+		conflict = false;
+		day = 0;
+		overlapStart = 0;
+		overlapEnd = 0;
+	}
+
+}
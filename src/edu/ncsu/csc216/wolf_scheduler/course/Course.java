@@ -90,15 +90,22 @@ public class Course extends Activity {
 	 *                                  greater than 6
 	 */
 	private void setName(String name) {
-		if (name == null) {
-			throw new IllegalArgumentException();
-		}
-		if (name.length() < MIN_NAME_LENGTH || name.length() > MAX_NAME_LENGTH) {
+		if (!isValidName(name)) {
 			throw new IllegalArgumentException();
 		}
 		this.name = name;
 	}
 
+	/**
+	 * Checks if the given name can be set on a Course.
+	 * 
+	 * @param name the name to check
+	 * @return true if the name is not null and has a length from 4 to 6
+	 */
+	private static boolean isValidName(String name) {
+		return name != null && name.length() >= MIN_NAME_LENGTH && name.length() <= MAX_NAME_LENGTH;
+	}
+
 	/**
 	 * Returns the Course's section.
 	 * 
@@ -114,16 +121,23 @@ public class Course extends Activity {
 	 * @param section the section to set
 	 */
 	public void setSection(String section) {
-		if (section == null) {
-			throw new IllegalArgumentException();
-		}
-		if (section.length() != 3) {
+		if (!isValidSection(section)) {
 			throw new IllegalArgumentException();
 		}
 
 		this.section = section;
 	}
 
+	/**
+	 * Checks if the given section can be set on a Course.
+	 * 
+	 * @param section the section to check
+	 * @return true if the section is not null and has a length of 3
+	 */
+	private static boolean isValidSection(String section) {
+		return section != null && section.length() == SECTION_LENGTH;
+	}
+
 	/**
 	 * Returns the Course's credits.
 	 * 
@@ -139,12 +153,22 @@ public class Course extends Activity {
 	 * @param credits the credits to set
 	 */
 	public void setCredits(int credits) {
-		if (credits < MIN_CREDITS || credits > MAX_CREDITS) {
+		if (!isValidCredits(credits)) {
 			throw new IllegalArgumentException();
 		}
 		this.credits = credits;
 	}
 
+	/**
+	 * Checks if the given credits can be set on a Course.
+	 * 
+	 * @param credits the credits to check
+	 * @return true if the credits are from 1 to 5
+	 */
+	private static boolean isValidCredits(int credits) {
+		return credits >= MIN_CREDITS && credits <= MAX_CREDITS;
+	}
+
 	/**
 	 * Returns the Course's instructor ID.
 	 * 
@@ -160,12 +184,22 @@ public class Course extends Activity {
 	 * @param instructorId the instructorId to set
 	 */
 	public void setInstructorId(String instructorId) {
-		if (instructorId == null || instructorId.equals("")) {
+		if (!isValidInstructorId(instructorId)) {
 			throw new IllegalArgumentException();
 		}
 		this.instructorId = instructorId;
 	}
 
+	/**
+	 * Checks if the given instructor ID can be set on a Course.
+	 * 
+	 * @param instructorId the instructorId to check
+	 * @return true if the instructor ID is not null or empty
+	 */
+	private static boolean isValidInstructorId(String instructorId) {
+		return instructorId != null && !instructorId.equals("");
+	}
+
 	
 	/**
 	 * Sets the Activity's meeting days.
@@ -173,19 +207,75 @@ public class Course extends Activity {
 	 * @param meetingDays the meetingDays to set
 	 */
 	public void setMeetingDays(String meetingDays) {
-		if (meetingDays == null || meetingDays.equals("")) {
+		if (!isValidMeetingDays(meetingDays)) {
 			throw new IllegalArgumentException();
 		}
+		super.setMeetingDays(meetingDays);
+	}
+
+	/**
+	 * Checks if the given meeting days can be set on a Course.
+	 * 
+	 * @param meetingDays the meetingDays to check
+	 * @return true if the meeting days are made of M, T, W, H, and F, or are only A
+	 */
+	private static boolean isValidMeetingDays(String meetingDays) {
+		if (meetingDays == null || meetingDays.equals("")) {
+			return false;
+		}
 	
 		for (int i = 0; i < meetingDays.length(); i++) {
 			char letter = meetingDays.charAt(i);
 			if (!(letter == 'M' || letter == 'T' || letter == 'W' || letter == 'H' || letter == 'F'
 					|| (letter == 'A' && meetingDays.length() == 1))) {
-				throw new IllegalArgumentException();
+				return false;
 			}
 	
 		}
-		super.setMeetingDays(meetingDays);
+		return true;
+	}
+
+	
+	/**
+	 * Checks the fields of a Course without constructing it, in the same order as the
+	 * constructor sets them.  This lets callers such as CourseRecordIO reject invalid
+	 * records without the cost of throwing and catching an exception.
+	 * 
+	 * @param name         name of Course
+	 * @param title        title of Course
+	 * @param section      section of Course
+	 * @param credits      credit hours for Course
+	 * @param instructorId instructor's unity id
+	 * @param meetingDays  meeting days for Course as series of chars
+	 * @param startTime    start time for Course
+	 * @param endTime      end time for Course
+	 * @return VALID if the constructor would accept the fields, otherwise the result for
+	 * 			the first invalid field
+	 */
+	public static ValidationResult validate(String name, String title, String section, int credits,
+			String instructorId, String meetingDays, int startTime, int endTime) {
+		if (!isValidTitle(title)) {
+			return ValidationResult.INVALID_TITLE;
+		}
+		if (!isValidMeetingDays(meetingDays)) {
+			return ValidationResult.INVALID_MEETING_DAYS;
+		}
+		if (!isValidTime(meetingDays, startTime, endTime)) {
+			return ValidationResult.INVALID_TIMES;
+		}
+		if (!isValidName(name)) {
+			return ValidationResult.INVALID_NAME;
+		}
+		if (!isValidSection(section)) {
+			return ValidationResult.INVALID_SECTION;
+		}
+		if (!isValidCredits(credits)) {
+			return ValidationResult.INVALID_CREDITS;
+		}
+		if (!isValidInstructorId(instructorId)) {
+			return ValidationResult.INVALID_INSTRUCTOR_ID;
+		}
+		return ValidationResult.VALID;
 	}
 	
 
@@ -239,7 +329,7 @@ public class Course extends Activity {
 		return true;
 	}
 
-	
+	
 
 	/**
 	 * Returns a comma separated value String of all Course fields.
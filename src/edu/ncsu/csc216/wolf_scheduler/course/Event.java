@@ -20,6 +20,8 @@ public class Event extends Activity {
 	private static final int LONG_DISPLAY = 7;
 	/** Weekly Repeat of Event */
 	private int weeklyRepeat;
+	/** First week of the term the Event happens in */
+	private int startWeek = 1;
 	/** Details of Event*/
 	private String eventDetails;
 	
@@ -35,8 +37,26 @@ public class Event extends Activity {
 	 * @param eventDetails details of Event
 	 */
 	public Event(String title, String meetingDays, int startTime, int endTime, int weeklyRepeat, String eventDetails) {
+		this(title, meetingDays, startTime, endTime, weeklyRepeat, 1, eventDetails);
+	}
+	
+	
+	/**
+	 * Constructs an Event object that starts in a later week of the term.
+	 * 
+	 * @param title        title of Event
+	 * @param meetingDays  meeting days for Event as series of chars
+	 * @param startTime    start time for Event
+	 * @param endTime      end time for Event
+	 * @param weeklyRepeat weekly repeat of Event
+	 * @param startWeek    first week of the term the Event happens in
+	 * @param eventDetails details of Event
+	 */
+	public Event(String title, String meetingDays, int startTime, int endTime, int weeklyRepeat, int startWeek,
+			String eventDetails) {
 		super(title, meetingDays, startTime, endTime);
 		setWeeklyRepeat(weeklyRepeat);
+		setStartWeek(startWeek);
 		setEventDetails(eventDetails);
 	}
 	
@@ -61,6 +81,32 @@ public class Event extends Activity {
 			throw new IllegalArgumentException("Invalid weekly repeat");
 		}
 		this.weeklyRepeat = weeklyRepeat;
+		setWeeks(weeklyRepeat, startWeek - 1);
+	}
+	
+	
+	/**
+	 * Returns the first week of the term the Event happens in.
+	 * 
+	 * @return the startWeek
+	 */
+	public int getStartWeek() {
+		return startWeek;
+	}
+	
+	
+	/**
+	 * Sets the first week of the term the Event happens in.  Only the week modulo the
+	 * weeklyRepeat matters when checking for conflicts.
+	 * 
+	 * @param startWeek the startWeek to set
+	 */
+	public void setStartWeek(int startWeek) {
+		if (startWeek < 1 || startWeek > WEEK_REPEAT) {
+			throw new IllegalArgumentException("Invalid start week");
+		}
+		this.startWeek = startWeek;
+		setWeeks(weeklyRepeat, startWeek - 1);
 	}
 	
 	
@@ -117,6 +163,9 @@ public class Event extends Activity {
 	 * @return the meeting string
 	 */
 	public String getMeetingString() {
+		if (startWeek > 1) {
+			return super.getMeetingString() +  " (every " + weeklyRepeat + " weeks from week " + startWeek + ")";
+		}
 		return super.getMeetingString() +  " (every " + weeklyRepeat + " weeks)";
 	}
 
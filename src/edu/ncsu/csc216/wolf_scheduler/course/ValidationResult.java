@@ -0,0 +1,55 @@
+/**
+ * 
+ */
+package edu.ncsu.csc216.wolf_scheduler.course;
+
+/**
+ * Result of validating the fields of a Course without constructing it.  Each invalid result
+ * names the first field, in the order the Course constructor sets them, that would have
+ * caused an IllegalArgumentException.
+ * 
+ * @author Bilal Mohamad
+ *
+ */
+public enum ValidationResult {
+
+	/** All fields are valid */
+	VALID("Valid"),
+	/** Title is null or empty */
+	INVALID_TITLE("Invalid title"),
+	/** Meeting days are null, empty, or contain an invalid day */
+	INVALID_MEETING_DAYS("Invalid meeting days"),
+	/** Start or end time is out of range, out of order, or set for an arranged Course */
+	INVALID_TIMES("Invalid times"),
+	/** Name is null or has the wrong length */
+	INVALID_NAME("Invalid name"),
+	/** Section is null or has the wrong length */
+	INVALID_SECTION("Invalid section"),
+	/** Credits are out of range */
+	INVALID_CREDITS("Invalid credits"),
+	/** Instructor id is null or empty */
+	INVALID_INSTRUCTOR_ID("Invalid instructor id");
+
+	/** Description of the result */
+	private final String message;
+	
+	
+	/**
+	 * Constructs a ValidationResult with the given description.
+	 * 
+	 * @param message description of the result
+	 */
+	ValidationResult(String message) {
+		this.message = message;
+	}
+	
+	
+	/**
+	 * Returns the description of the result.
+	 * 
+	 * @return the message
+	 */
+	public String getMessage() {
+		return message;
+	}
+}
@@ -0,0 +1,102 @@
+/**
+ *
+ */
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Read-only view of a range of an ASCII encoded ByteBuffer as a CharSequence.  It lets
+ * CourseRecordTokenizer parse a line of a mapped file in place; characters are only copied
+ * out when a field is turned into a String.  The view does not change the buffer's position.
+ *
+ * @author Bilal Mohamad
+ *
+ */
+class ByteCharSequence implements CharSequence {
+
+	/** Buffer holding the bytes */
+	private ByteBuffer buffer;
+	/** Absolute offset of the first byte */
+	private int start;
+	/** Absolute offset just past the last byte */
+	private int end;
+
+
+	/**
+	 * Constructs a view over the given range of the buffer.
+	 *
+	 * @param buffer buffer holding ASCII bytes
+	 * @param start  absolute offset of the first byte
+	 * @param end    absolute offset just past the last byte
+	 */
+	ByteCharSequence(ByteBuffer buffer, int start, int end) {
+		set(buffer, start, end);
+	}
+
+
+	/**
+	 * Moves the view to another range so that one instance can be reused for every line.
+	 *
+	 * @param buffer buffer holding ASCII bytes
+	 * @param start  absolute offset of the first byte
+	 * @param end    absolute offset just past the last byte
+	 */
+	void set(ByteBuffer buffer, int start, int end) {
+		this.buffer = buffer;
+		this.start = start;
+		this.end = end;
+	}
+
+
+	/**
+	 * Returns the number of characters in the view.
+	 *
+	 * @return the length of the view
+	 */
+	@Override
+	public int length() {
+		return end - start;
+	}
+
+
+	/**
+	 * Returns the character at the given index of the view.
+	 *
+	 * @param index index of the character
+	 * @return the character at that index
+	 */
+	@Override
+	public char charAt(int index) {
+		return (char) (buffer.get(start + index) & 0xFF);
+	}
+
+
+	/**
+	 * Returns a view over part of this view.
+	 *
+	 * @param from index of the first character
+	 * @param to   index just past the last character
+	 * @return the sub view
+	 */
+	@Override
+	public CharSequence subSequence(int from, int to) {
+		return new ByteCharSequence(buffer, start + from, start + to);
+	}
+
+
+	/**
+	 * Copies the characters of the view into a String.
+	 *
+	 * @return the text of the view
+	 */
+	@Override
+	public String toString() {
+		char[] chars = new char[end - start];
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = charAt(i);
+		}
+		return new String(chars);
+	}
+
+}
@@ -0,0 +1,210 @@
+/**
+ *
+ */
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.util.Arrays;
+
+/**
+ * Summary of a course catalog load.  CourseRecordIO fills in a CourseLoadReport while
+ * reading so that callers can see which records were dropped as duplicates of an
+ * earlier (name, section) and on which lines of the file they appeared.  Records that
+ * were rejected as invalid are kept in a rejection log of line numbers and reasons.
+ * A report can be given a log limit, in which case the counts stay exact but only the first
+ * entries of each log are kept, so the report's memory does not grow with the file.
+ *
+ * @author Bilal Mohamad
+ *
+ */
+public class CourseLoadReport {
+
+	/** Initial capacity of the line number array */
+	private static final int INITIAL_CAPACITY = 8;
+	/** Largest number of entries kept in each log */
+	private final int logLimit;
+	/** Number of lines read from the file */
+	private int linesRead;
+	/** Line numbers of dropped duplicate records */
+	private int[] duplicateLines;
+	/** Number of dropped duplicate records */
+	private int duplicateCount;
+	/** Line numbers of rejected records */
+	private int[] rejectedLines;
+	/** Reason each record was rejected */
+	private String[] rejectionReasons;
+	/** Number of rejected records */
+	private int rejectedCount;
+
+
+	/**
+	 * Constructs an empty CourseLoadReport that keeps every log entry.
+	 */
+	public CourseLoadReport() {
+		this(Integer.MAX_VALUE);
+	}
+
+
+	/**
+	 * Constructs an empty CourseLoadReport that keeps at most logLimit entries in each log.
+	 *
+	 * @param logLimit largest number of duplicate lines and of rejections to keep
+	 * @throws IllegalArgumentException if the limit is negative
+	 */
+	public CourseLoadReport(int logLimit) {
+		if (logLimit < 0) {
+			throw new IllegalArgumentException("Invalid log limit");
+		}
+		this.logLimit = logLimit;
+		int capacity = Math.min(INITIAL_CAPACITY, logLimit);
+		duplicateLines = new int[capacity];
+		rejectedLines = new int[capacity];
+		rejectionReasons = new String[capacity];
+	}
+
+
+	/**
+	 * Returns the largest number of entries kept in each log.
+	 *
+	 * @return the log limit, or Integer.MAX_VALUE if every entry is kept
+	 */
+	public int getLogLimit() {
+		return logLimit;
+	}
+
+
+	/**
+	 * Returns the number of lines read from the file.
+	 *
+	 * @return the number of lines read
+	 */
+	public int getLinesRead() {
+		return linesRead;
+	}
+
+
+	/**
+	 * Sets the number of lines read from the file.
+	 *
+	 * @param linesRead the number of lines read
+	 */
+	void setLinesRead(int linesRead) {
+		this.linesRead = linesRead;
+	}
+
+
+	/**
+	 * Returns the number of records dropped because an earlier record had the same name and section.
+	 *
+	 * @return the number of duplicates dropped
+	 */
+	public int getDuplicateCount() {
+		return duplicateCount;
+	}
+
+
+	/**
+	 * Returns the 1-based line numbers of the dropped duplicate records, in file order.  Only
+	 * the first getLogLimit lines are kept.
+	 *
+	 * @return array of line numbers
+	 */
+	public int[] getDuplicateLines() {
+		return Arrays.copyOf(duplicateLines, Math.min(duplicateCount, logLimit));
+	}
+
+
+	/**
+	 * Records that the record on the given line was dropped as a duplicate.
+	 *
+	 * @param lineNumber 1-based line number of the record
+	 */
+	void addDuplicate(int lineNumber) {
+		if (duplicateCount < logLimit) {
+			if (duplicateCount == duplicateLines.length) {
+				duplicateLines = Arrays.copyOf(duplicateLines, grow(duplicateCount));
+			}
+			duplicateLines[duplicateCount] = lineNumber;
+		}
+		duplicateCount++;
+	}
+
+
+	/**
+	 * Returns the number of records rejected as invalid.
+	 *
+	 * @return the number of rejected records
+	 */
+	public int getRejectedCount() {
+		return rejectedCount;
+	}
+
+
+	/**
+	 * Returns the 1-based line numbers of the rejected records, in file order.  Only the first
+	 * getLogLimit lines are kept.
+	 *
+	 * @return array of line numbers
+	 */
+	public int[] getRejectedLines() {
+		return Arrays.copyOf(rejectedLines, Math.min(rejectedCount, logLimit));
+	}
+
+
+	/**
+	 * Returns the reason each record was rejected, in the same order as getRejectedLines.
+	 *
+	 * @return array of reasons
+	 */
+	public String[] getRejectionReasons() {
+		return Arrays.copyOf(rejectionReasons, Math.min(rejectedCount, logLimit));
+	}
+
+
+	/**
+	 * Records that the record on the given line was rejected.
+	 *
+	 * @param lineNumber 1-based line number of the record
+	 * @param reason     reason the record was rejected
+	 */
+	void addRejection(int lineNumber, String reason) {
+		if (rejectedCount < logLimit) {
+			if (rejectedCount == rejectedLines.length) {
+				rejectedLines = Arrays.copyOf(rejectedLines, grow(rejectedCount));
+				rejectionReasons = Arrays.copyOf(rejectionReasons, rejectedLines.length);
+			}
+			rejectedLines[rejectedCount] = lineNumber;
+			rejectionReasons[rejectedCount] = reason;
+		}
+		rejectedCount++;
+	}
+
+
+	/**
+	 * Returns the new capacity of a full log, doubling it without passing the log limit.
+	 *
+	 * @param capacity current capacity of the log
+	 * @return the new capacity
+	 */
+	private int grow(int capacity) {
+		return (int) Math.min((long) Math.max(capacity, 1) * 2, logLimit);
+	}
+
+
+	/**
+	 * Returns a one line summary of the load.
+	 *
+	 * @return String summary of the report
+	 */
+	public String toString() {
+		String s = linesRead + " lines read, " + duplicateCount + " duplicates dropped";
+		if (duplicateCount > 0) {
+			s += " at lines " + Arrays.toString(getDuplicateLines());
+			if (duplicateCount > logLimit) {
+				s += " and " + (duplicateCount - logLimit) + " more";
+			}
+		}
+		s += ", " + rejectedCount + " invalid records rejected";
+		return s;
+	}
+
+}
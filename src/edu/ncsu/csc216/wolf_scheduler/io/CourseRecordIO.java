@@ -1,10 +1,29 @@
 package edu.ncsu.csc216.wolf_scheduler.io;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.NoSuchElementException;
-import java.util.Scanner;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPInputStream;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
 
@@ -15,6 +34,17 @@ import edu.ncsu.csc216.wolf_scheduler.course.Course;
  */
 public class CourseRecordIO {
 
+	/** Size in bytes from which readCourseRecords maps the file instead of streaming it */
+	public static final long MAPPED_THRESHOLD = 16L * 1024 * 1024;
+	/** Largest number of bytes mapped at once */
+	private static final int MAP_WINDOW = 1 << 30;
+	/** Number of bytes each task of a parallel load parses */
+	private static final int PARALLEL_CHUNK = 1 << 20;
+	/** Size of the buffers used when streaming a file */
+	private static final int BUFFER_SIZE = 1 << 16;
+	/** First bytes of every gzip member */
+	private static final int[] GZIP_MAGIC = {0x1F, 0x8B};
+
     /**
      * Reads course records from a file and generates a list of valid Courses.  Any invalid
      * Courses are ignored.  If the file to read cannot be found or the permissions are incorrect
@@ -24,72 +54,544 @@ public class CourseRecordIO {
      * @throws FileNotFoundException if the file cannot be found or read
      */
 	public static ArrayList<Course> readCourseRecords(String fileName) throws FileNotFoundException {
-	    Scanner fileReader = new Scanner(new FileInputStream(fileName));
-	    ArrayList<Course> courses = new ArrayList<Course>();
-	    while (fileReader.hasNextLine()) {
-	        try {
-	            Course course = readCourse(fileReader.nextLine());
-	            boolean duplicate = false;
-	            for (int i = 0; i < courses.size(); i++) {
-	                Course c = courses.get(i);
-	                if (course.getName().equals(c.getName()) &&
-	                        course.getSection().equals(c.getSection())) {
-	                    //it's a duplicate
-	                    duplicate = true;
-	                }
-	            }
-	            if (!duplicate) {
-	                courses.add(course);
-	            }
-	        } 
-	        catch (IllegalArgumentException e) {
-	            //skip the line
+		return readCourseRecords(fileName, new CourseLoadReport());
+	}
+
+
+    /**
+     * Reads course records from a file and generates a list of valid Courses.  Any invalid
+     * Courses are ignored and logged in the given report with their line number and the
+     * reason they were rejected.  A record with the same name and section as an earlier
+     * record is dropped and its line number is added to the report.  Gzip compressed files
+     * are decompressed as they are read.  Uncompressed files of at least MAPPED_THRESHOLD
+     * bytes are read with readParallelCourseRecords, or with readMappedCourseRecords if only
+     * one processor is available.
+     * @param fileName file to read Course records from
+     * @param report report to record rejected and duplicate records in
+     * @return a list of valid Courses
+     * @throws FileNotFoundException if the file cannot be found or read
+     * @throws UncheckedIOException if the file cannot be read after it is opened
+     */
+	public static ArrayList<Course> readCourseRecords(String fileName, CourseLoadReport report) throws FileNotFoundException {
+		if (new File(fileName).length() >= MAPPED_THRESHOLD && !isCompressed(fileName)) {
+			if (Runtime.getRuntime().availableProcessors() > 1) {
+				return readParallelCourseRecords(fileName, report);
+			}
+			return readMappedCourseRecords(fileName, report);
+		}
+		return readStreamedCourseRecords(fileName, report);
+	}
+
+
+    /**
+     * Reads course records one line at a time through a buffered reader.
+     * @param fileName file to read Course records from
+     * @param report report to record rejected and duplicate records in
+     * @return a list of valid Courses
+     * @throws FileNotFoundException if the file cannot be found or read
+     * @throws UncheckedIOException if the file cannot be read after it is opened
+     */
+	private static ArrayList<Course> readStreamedCourseRecords(String fileName, CourseLoadReport report) throws FileNotFoundException {
+	    InputStream in = openCourseRecords(fileName);
+	    RecordCollector collector = new RecordCollector(report);
+	    try (BufferedReader fileReader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+	        String line = fileReader.readLine();
+	        while (line != null) {
+	            collector.add(line);
+	            line = fileReader.readLine();
 	        }
 	    }
-	    fileReader.close();
-	    return courses;
+	    catch (IOException e) {
+	        throw new UncheckedIOException(e);
+	    }
+	    return collector.finish();
+	}
+
+
+    /**
+     * Opens a course records file for reading.  If the file starts with the gzip magic
+     * number it is decompressed as it is read, so no temporary file or second pass over
+     * the data is needed.  Files made of several gzip members, such as block-compressed
+     * files, are decompressed member by member.
+     * @param fileName file to open
+     * @return a stream of the uncompressed bytes of the file
+     * @throws FileNotFoundException if the file cannot be found or read
+     * @throws UncheckedIOException if the start of the file cannot be read
+     */
+	public static InputStream openCourseRecords(String fileName) throws FileNotFoundException {
+		InputStream in = new BufferedInputStream(new FileInputStream(fileName), BUFFER_SIZE);
+		try {
+			in.mark(GZIP_MAGIC.length);
+			boolean compressed = startsWithGzipMagic(in);
+			in.reset();
+			if (compressed) {
+				return new GZIPInputStream(in, BUFFER_SIZE);
+			}
+			return in;
+		}
+		catch (IOException e) {
+			try {
+				in.close();
+			}
+			catch (IOException closeException) {
+				e.addSuppressed(closeException);
+			}
+			throw new UncheckedIOException(e);
+		}
 	}
 
-	
+
     /**
-     * Helper method for readCourseRecords to ignore any invalid Courses.
+     * Checks if a file is gzip compressed by looking for the gzip magic number.
+     * @param fileName file to check
+     * @return true if the file starts with the gzip magic number
+     * @throws FileNotFoundException if the file cannot be found or read
+     * @throws UncheckedIOException if the start of the file cannot be read
+     */
+	public static boolean isCompressed(String fileName) throws FileNotFoundException {
+		FileInputStream in = new FileInputStream(fileName);
+		try (InputStream stream = in) {
+			return startsWithGzipMagic(stream);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+
+    /**
+     * Reads the first bytes of a stream and compares them to the gzip magic number.
+     * @param in stream positioned at the start of a file
+     * @return true if the stream starts with the gzip magic number
+     * @throws IOException if the stream cannot be read
+     */
+	private static boolean startsWithGzipMagic(InputStream in) throws IOException {
+		for (int i = 0; i < GZIP_MAGIC.length; i++) {
+			if (in.read() != GZIP_MAGIC[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+    /**
+     * Returns a lazy Stream of the valid Courses in a file.  Lines are read and validated only
+     * as the Stream is consumed, so a file larger than the heap can be processed in constant
+     * memory when dedup is false.  The Stream should be closed, for example with
+     * try-with-resources, if it is not consumed to the end.
      * @param fileName file to read Course records from
-     * @return null to ignore invalid Courses
+     * @param dedup true to skip a Course with the same name and section as an earlier one
+     * @return a sequential Stream of Courses in file order
      * @throws FileNotFoundException if the file cannot be found or read
      */
-	private static Course readCourse(String currentLine) throws FileNotFoundException {
-    	Scanner line = new Scanner(currentLine);
-    	Course c = null;
-    	line.useDelimiter(",");
-    	
-    	while(line.hasNext()) {
-    		try {
-    			String name = line.next();
-    			String title = line.next();
-    			String section = line.next();
-    			int credits = line.nextInt();
-    			String instructorId = line.next();
-    			String meetingDays = line.next();
-    			
-    			if (meetingDays.contains("A") && !line.hasNextInt()) {
-    				c = new Course (name, title, section, credits, instructorId, meetingDays);
-    			}
-    			else {
-    				int startTime = line.nextInt();
-    				int endTime = line.nextInt();
-    				c = new Course (name, title, section, credits, instructorId, meetingDays, startTime, endTime);
-    			}
-    			
-    			line.close();
-    			return c;
-			}
-    		catch (NoSuchElementException e) {
-    			line.close();
-    			throw new IllegalArgumentException();
-    		}
-    	}
-    	line.close();
-    	return c;
+	public static Stream<Course> streamCourseRecords(String fileName, boolean dedup) throws FileNotFoundException {
+		CourseRecordIterator iterator = new CourseRecordIterator(fileName, dedup);
+		Spliterator<Course> spliterator = Spliterators.spliteratorUnknownSize(iterator,
+				Spliterator.ORDERED | Spliterator.NONNULL);
+		return StreamSupport.stream(spliterator, false).onClose(() -> {
+			try {
+				iterator.close();
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+
+
+    /**
+     * Reads course records by memory mapping the file and parsing each line directly out of
+     * the mapped buffer.  The results are the same as readCourseRecords.  Since the mapping
+     * reads through the page cache, reloading a file that was recently read is cheap.
+     * Compressed files cannot be mapped and are read with readCourseRecords instead.
+     * @param fileName file to read Course records from
+     * @param report report to record rejected and duplicate records in
+     * @return a list of valid Courses
+     * @throws FileNotFoundException if the file cannot be found or read
+     * @throws UncheckedIOException if the file cannot be mapped or read
+     */
+	public static ArrayList<Course> readMappedCourseRecords(String fileName, CourseLoadReport report) throws FileNotFoundException {
+		return readMappedCourseRecords(fileName, report, MAP_WINDOW, 0);
+	}
+
+
+    /**
+     * Reads course records by memory mapping the file, splitting it into line-aligned chunks,
+     * and parsing and validating the chunks in parallel on the common ForkJoinPool.  The parsed
+     * chunks are merged in file order, so duplicates are resolved exactly as in a sequential
+     * load and the results are the same as readCourseRecords.  Compressed files cannot be
+     * mapped and are read with readCourseRecords instead.
+     * @param fileName file to read Course records from
+     * @param report report to record rejected and duplicate records in
+     * @return a list of valid Courses
+     * @throws FileNotFoundException if the file cannot be found or read
+     * @throws UncheckedIOException if the file cannot be mapped or read
+     */
+	public static ArrayList<Course> readParallelCourseRecords(String fileName, CourseLoadReport report) throws FileNotFoundException {
+		return readMappedCourseRecords(fileName, report, MAP_WINDOW, PARALLEL_CHUNK);
+	}
+
+
+    /**
+     * Reads course records by mapping the file in windows of at most the given size.  Each
+     * window after the first starts at the beginning of the line the last window ended in.
+     * @param fileName file to read Course records from
+     * @param report report to record rejected and duplicate records in
+     * @param window largest number of bytes to map at once
+     * @param chunk number of bytes each parallel task parses, or 0 to parse sequentially
+     * @return a list of valid Courses
+     * @throws FileNotFoundException if the file cannot be found or read
+     * @throws UncheckedIOException if the file cannot be mapped or read, or a line does
+     * 			not fit in one window
+     */
+	static ArrayList<Course> readMappedCourseRecords(String fileName, CourseLoadReport report, int window, int chunk)
+			throws FileNotFoundException {
+		if (isCompressed(fileName)) {
+			return readStreamedCourseRecords(fileName, report);
+		}
+		RandomAccessFile file = new RandomAccessFile(fileName, "r");
+		RecordCollector collector = new RecordCollector(report);
+		try (FileChannel channel = file.getChannel()) {
+			long size = channel.size();
+			long position = 0;
+			while (position < size) {
+				int length = (int) Math.min(size - position, window);
+				MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+				//Only parse up to the end of the last whole line unless this is the end of the file
+				int end = length;
+				if (position + length < size) {
+					end = lineEnd(buffer, 0, length);
+					if (end == 0) {
+						throw new IOException("Course record is longer than the map window");
+					}
+				}
+
+				if (chunk > 0) {
+					ForkJoinPool.commonPool().invoke(new ChunkParser(buffer, 0, end, chunk, collector));
+				}
+				else {
+					parseLines(buffer, 0, end, collector);
+				}
+				position += end;
+			}
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return collector.finish();
+	}
+
+
+	/**
+	 * Returns the offset just past the last line terminator before the given end of a buffer.
+	 * Lines end the same way as for BufferedReader.readLine: at a line feed, a carriage return,
+	 * or a carriage return followed by a line feed.  A carriage return is only taken as the
+	 * end of a line if the byte after it is in range and is not a line feed, so a carriage
+	 * return and line feed pair is never split.
+	 * @param buffer buffer to search
+	 * @param start offset to stop searching at
+	 * @param end offset to search back from
+	 * @return the offset after the last line terminator, or start if there is none
+	 */
+	private static int lineEnd(ByteBuffer buffer, int start, int end) {
+		for (int i = end - 1; i >= start; i--) {
+			if (isLineEnd(buffer, i, end)) {
+				return i + 1;
+			}
+		}
+		return start;
+	}
+
+
+	/**
+	 * Checks if a byte is the last byte of a line terminator that can be split after.
+	 * @param buffer buffer to check
+	 * @param i offset of the byte
+	 * @param end offset just past the bytes that can be read
+	 * @return true if the byte is a line feed, or a carriage return that is followed by a
+	 * 			byte other than a line feed
+	 */
+	private static boolean isLineEnd(ByteBuffer buffer, int i, int end) {
+		byte b = buffer.get(i);
+		return b == '\n' || b == '\r' && i + 1 < end && buffer.get(i + 1) != '\n';
+	}
+
+
+	/**
+	 * Passes every line in a range of a mapped buffer to the collector, dropping line terminators.
+	 * A line ends at a line feed, a carriage return, or a carriage return followed by a line
+	 * feed, as for BufferedReader.readLine.  ASCII lines are parsed in place; any other line
+	 * is decoded as UTF-8 first.
+	 * @param buffer mapped buffer
+	 * @param start offset of the first line
+	 * @param end offset just past the last line
+	 * @param collector collector for the lines
+	 */
+	private static void parseLines(ByteBuffer buffer, int start, int end, LineCollector collector) {
+		ByteCharSequence view = new ByteCharSequence(buffer, 0, 0);
+		int lineStart = start;
+		boolean ascii = true;
+		for (int i = start; i < end; i++) {
+			byte b = buffer.get(i);
+			if (b == '\n' || b == '\r') {
+				collector.add(mappedLine(view, buffer, lineStart, i, ascii));
+				if (b == '\r' && i + 1 < end && buffer.get(i + 1) == '\n') {
+					i++;
+				}
+				lineStart = i + 1;
+				ascii = true;
+			}
+			else if (b < 0) {
+				ascii = false;
+			}
+		}
+		if (lineStart < end) {
+			collector.add(mappedLine(view, buffer, lineStart, end, ascii));
+		}
+	}
+
+
+	/**
+	 * Returns one line of a mapped buffer.
+	 * @param view reusable view over the buffer
+	 * @param buffer mapped buffer
+	 * @param start offset of the first byte of the line
+	 * @param end offset of the terminator ending the line, or the end of the range
+	 * @param ascii true if every byte of the line is ASCII
+	 * @return the view moved to the line if it is ASCII, otherwise the decoded line
+	 */
+	private static CharSequence mappedLine(ByteCharSequence view, ByteBuffer buffer, int start, int end, boolean ascii) {
+		if (ascii) {
+			view.set(buffer, start, end);
+			return view;
+		}
+		byte[] bytes = new byte[end - start];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = buffer.get(start + i);
+		}
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+
+	/**
+	 * Receives the lines of a course record file in order.
+	 */
+	private interface LineCollector {
+
+		/**
+		 * Parses the next line of the file.
+		 * @param line text of the line without its line terminator
+		 */
+		void add(CharSequence line);
+	}
+
+
+	/**
+	 * Builds the list of Courses for one load.  Each line is parsed, invalid lines are logged
+	 * in the report and skipped, and a Course with the same name and section as an earlier
+	 * one is recorded as a duplicate.
+	 */
+	private static class RecordCollector implements LineCollector {
+
+		/** Tokenizer for the lines of this load */
+		private final CourseRecordTokenizer tokenizer = new CourseRecordTokenizer();
+		/** Name and section of every Course kept so far */
+		private final HashSet<String> keys = new HashSet<String>();
+		/** Courses kept so far */
+		private final ArrayList<Course> courses = new ArrayList<Course>();
+		/** Report for this load */
+		private final CourseLoadReport report;
+		/** Number of the last line added */
+		private int lineNumber;
+
+		/**
+		 * Constructs a RecordCollector that records duplicates in the given report.
+		 * @param report report for this load
+		 */
+		RecordCollector(CourseLoadReport report) {
+			this.report = report;
+		}
+
+		@Override
+		public void add(CharSequence line) {
+			lineNumber++;
+			Course course = tokenizer.parse(line);
+			if (course == null) {
+				report.addRejection(lineNumber, tokenizer.getError());
+			}
+			else {
+				keep(course, lineNumber);
+			}
+		}
+
+		/**
+		 * Merges the lines of a chunk that was parsed separately.
+		 * @param chunk parsed chunk that follows the lines added so far
+		 */
+		void addAll(ParsedChunk chunk) {
+			for (int i = 0; i < chunk.courses.size(); i++) {
+				keep(chunk.courses.get(i), lineNumber + chunk.lineNumbers[i]);
+			}
+			for (int i = 0; i < chunk.rejectedCount; i++) {
+				report.addRejection(lineNumber + chunk.rejectedLines[i], chunk.rejectionReasons[i]);
+			}
+			lineNumber += chunk.lineCount;
+		}
+
+		/**
+		 * Keeps a parsed Course unless an earlier Course had the same name and section.
+		 * @param course parsed Course
+		 * @param line line number of the Course
+		 */
+		private void keep(Course course, int line) {
+			if (keys.add(course.getName() + "," + course.getSection())) {
+				courses.add(course);
+			}
+			else {
+				//it's a duplicate
+				report.addDuplicate(line);
+			}
+		}
+
+		/**
+		 * Completes the load.
+		 * @return the Courses that were kept
+		 */
+		ArrayList<Course> finish() {
+			report.setLinesRead(lineNumber);
+			return courses;
+		}
+	}
+
+
+	/**
+	 * Valid Courses of one chunk of a file, each with its line number within the chunk, and
+	 * the chunk's rejected lines.  Duplicates are not checked until the chunk is merged.
+	 */
+	private static class ParsedChunk implements LineCollector {
+
+		/** Tokenizer for the lines of this chunk */
+		private final CourseRecordTokenizer tokenizer = new CourseRecordTokenizer();
+		/** Valid Courses of the chunk */
+		private final ArrayList<Course> courses = new ArrayList<Course>();
+		/** Line number within the chunk of each valid Course */
+		private int[] lineNumbers = new int[16];
+		/** Line number within the chunk of each rejected line */
+		private int[] rejectedLines = new int[16];
+		/** Reason each line was rejected */
+		private String[] rejectionReasons = new String[16];
+		/** Number of rejected lines */
+		private int rejectedCount;
+		/** Number of lines in the chunk */
+		private int lineCount;
+
+		@Override
+		public void add(CharSequence line) {
+			lineCount++;
+			Course course = tokenizer.parse(line);
+			if (course == null) {
+				if (rejectedCount == rejectedLines.length) {
+					rejectedLines = Arrays.copyOf(rejectedLines, rejectedCount * 2);
+					rejectionReasons = Arrays.copyOf(rejectionReasons, rejectedCount * 2);
+				}
+				rejectedLines[rejectedCount] = lineCount;
+				rejectionReasons[rejectedCount] = tokenizer.getError();
+				rejectedCount++;
+			}
+			else {
+				if (courses.size() == lineNumbers.length) {
+					lineNumbers = Arrays.copyOf(lineNumbers, lineNumbers.length * 2);
+				}
+				lineNumbers[courses.size()] = lineCount;
+				courses.add(course);
+			}
+		}
+	}
+
+
+	/**
+	 * Parses a line-aligned range of a mapped buffer.  Ranges larger than the chunk size are
+	 * split at a line boundary near the middle and the halves are parsed in parallel; the
+	 * left half is always merged into the collector before the right half.
+	 */
+	private static class ChunkParser extends RecursiveAction {
+
+		/** ID used for serialization */
+		private static final long serialVersionUID = 1L;
+		/** Mapped buffer */
+		private final transient ByteBuffer buffer;
+		/** Offset of the first line of the range */
+		private final int start;
+		/** Offset just past the last line of the range */
+		private final int end;
+		/** Largest range parsed without splitting */
+		private final int chunk;
+		/** Collector the parsed lines are merged into */
+		private final transient RecordCollector collector;
+		/** Lines of the range, once parsed, if it was not split */
+		private transient ParsedChunk parsed;
+		/** Halves of the range, if it was split */
+		private ChunkParser left;
+		/** Right half of the range, if it was split */
+		private ChunkParser right;
+
+		/**
+		 * Constructs a ChunkParser for the given range.
+		 * @param buffer mapped buffer
+		 * @param start offset of the first line of the range
+		 * @param end offset just past the last line of the range
+		 * @param chunk largest range parsed without splitting
+		 * @param collector collector for the whole load, or null if a parent task merges
+		 */
+		ChunkParser(ByteBuffer buffer, int start, int end, int chunk, RecordCollector collector) {
+			this.buffer = buffer;
+			this.start = start;
+			this.end = end;
+			this.chunk = chunk;
+			this.collector = collector;
+		}
+
+		@Override
+		protected void compute() {
+			int middle = start;
+			if (end - start > chunk) {
+				int half = start + (end - start) / 2;
+				middle = lineEnd(buffer, start, half);
+				for (int i = half; middle == start && i < end - 1; i++) {
+					if (isLineEnd(buffer, i, end)) {
+						middle = i + 1;
+					}
+				}
+			}
+			if (middle == start) {
+				parsed = new ParsedChunk();
+				parseLines(buffer, start, end, parsed);
+			}
+			else {
+				left = new ChunkParser(buffer, start, middle, chunk, null);
+				right = new ChunkParser(buffer, middle, end, chunk, null);
+				invokeAll(left, right);
+			}
+			if (collector != null) {
+				mergeInto(collector);
+			}
+		}
+
+		/**
+		 * Merges the parsed lines of the range into the collector in file order.
+		 * @param target collector for the whole load
+		 */
+		private void mergeInto(RecordCollector target) {
+			if (parsed != null) {
+				target.addAll(parsed);
+			}
+			else {
+				left.mergeInto(target);
+				right.mergeInto(target);
+			}
+		}
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,143 @@
+/**
+ *
+ */
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Lazily reads the valid Courses of a course records file one line at a time, so that a
+ * file can be counted, filtered, or transformed without holding all of its Courses in memory.
+ * Lines are validated the same way as CourseRecordIO.readCourseRecords.  Removing duplicates
+ * is optional, since it needs to remember the name and section of every Course returned.
+ * Gzip compressed files are decompressed as they are read.  The file is closed when the
+ * last Course has been read or when close is called.  The load report counts every dropped
+ * line but only logs the line numbers and reasons of the first LOG_LIMIT duplicates and
+ * rejections, so with duplicates kept the iterator runs in constant memory however dirty
+ * the file is.
+ *
+ * @author Bilal Mohamad
+ *
+ */
+public class CourseRecordIterator implements Iterator<Course>, Closeable {
+
+	/** Largest number of duplicates and of rejections logged in the report */
+	public static final int LOG_LIMIT = 100;
+	/** Reader for the file */
+	private final BufferedReader fileReader;
+	/** Tokenizer for the lines of the file */
+	private final CourseRecordTokenizer tokenizer = new CourseRecordTokenizer();
+	/** Name and section of every Course returned, or null if duplicates are kept */
+	private final HashSet<String> keys;
+	/** Report of the lines read so far */
+	private final CourseLoadReport report = new CourseLoadReport(LOG_LIMIT);
+	/** Next Course to return, or null if it has not been read yet */
+	private Course next;
+	/** Number of the last line read */
+	private int lineNumber;
+	/** Whether the file has been closed */
+	private boolean closed;
+
+
+	/**
+	 * Opens the given course records file.
+	 *
+	 * @param fileName file to read Course records from
+	 * @param dedup    true to skip a Course with the same name and section as an earlier one
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 */
+	public CourseRecordIterator(String fileName, boolean dedup) throws FileNotFoundException {
+		fileReader = new BufferedReader(new InputStreamReader(CourseRecordIO.openCourseRecords(fileName), StandardCharsets.UTF_8));
+		keys = dedup ? new HashSet<String>() : null;
+	}
+
+
+	/**
+	 * Checks if there is another valid Course in the file, reading ahead to find it.
+	 *
+	 * @return true if there is another Course
+	 * @throws UncheckedIOException if the file cannot be read
+	 */
+	@Override
+	public boolean hasNext() {
+		try {
+			while (next == null && !closed) {
+				String line = fileReader.readLine();
+				if (line == null) {
+					close();
+					break;
+				}
+				lineNumber++;
+				report.setLinesRead(lineNumber);
+				Course course = tokenizer.parse(line);
+				if (course == null) {
+					report.addRejection(lineNumber, tokenizer.getError());
+				}
+				else if (keys != null && !keys.add(course.getName() + "," + course.getSection())) {
+					report.addDuplicate(lineNumber);
+				}
+				else {
+					next = course;
+				}
+			}
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return next != null;
+	}
+
+
+	/**
+	 * Returns the next valid Course in the file.
+	 *
+	 * @return the next Course
+	 * @throws NoSuchElementException if there are no more Courses
+	 */
+	@Override
+	public Course next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		Course c = next;
+		next = null;
+		return c;
+	}
+
+
+	/**
+	 * Returns the report of the lines read so far, which logs at most LOG_LIMIT duplicates
+	 * and LOG_LIMIT rejections.
+	 *
+	 * @return the load report
+	 */
+	public CourseLoadReport getReport() {
+		return report;
+	}
+
+
+	/**
+	 * Closes the file.  Calling close more than once has no effect.
+	 *
+	 * @throws IOException if the file cannot be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		if (!closed) {
+			closed = true;
+			fileReader.close();
+		}
+	}
+
+}
@@ -0,0 +1,222 @@
+/**
+ *
+ */
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.ValidationResult;
+
+/**
+ * Splits a single course record into its comma separated fields and builds the Course.
+ * Fields are located by scanning for commas and int fields are parsed directly from the
+ * characters of the line, so no Scanner or regular expression is used.  A tokenizer keeps
+ * its field offsets between calls and can be reused for every line of a file, but it must
+ * not be shared between threads.
+ *
+ * A record is either
+ * <pre>name,title,section,credits,instructorId,meetingDays,startTime,endTime</pre>
+ * or, for arranged Courses,
+ * <pre>name,title,section,credits,instructorId,meetingDays</pre>
+ * Any fields after the last one used are ignored.
+ *
+ * @author Bilal Mohamad
+ *
+ */
+public class CourseRecordTokenizer {
+
+	/** Field separator */
+	private static final char DELIMITER = ',';
+	/** Number of fields in a record with meeting times */
+	private static final int MAX_FIELDS = 8;
+	/** Number of fields in an arranged record */
+	private static final int ARRANGED_FIELDS = 6;
+	/** Field holding the name */
+	private static final int NAME = 0;
+	/** Field holding the title */
+	private static final int TITLE = 1;
+	/** Field holding the section */
+	private static final int SECTION = 2;
+	/** Field holding the credits */
+	private static final int CREDITS = 3;
+	/** Field holding the instructor id */
+	private static final int INSTRUCTOR_ID = 4;
+	/** Field holding the meeting days */
+	private static final int MEETING_DAYS = 5;
+	/** Field holding the start time */
+	private static final int START_TIME = 6;
+	/** Field holding the end time */
+	private static final int END_TIME = 7;
+	/** Radix of int fields */
+	private static final int RADIX = 10;
+	/** Reason for a record with too few fields */
+	public static final String MISSING_FIELD = "Missing field";
+	/** Reason for an int field that is not a number */
+	public static final String INVALID_NUMBER = "Invalid number";
+
+	/** Offset of the first character of each field */
+	private final int[] fieldStart = new int[MAX_FIELDS];
+	/** Offset just past the last character of each field */
+	private final int[] fieldEnd = new int[MAX_FIELDS];
+	/** Number of fields found in the current line */
+	private int fieldCount;
+	/** Line being parsed */
+	private CharSequence line;
+	/** Reason the last line was rejected */
+	private String error;
+
+
+	/**
+	 * Parses a course record into a Course.  Invalid records are rejected without throwing
+	 * an exception: null is returned and the reason is available from getError.
+	 *
+	 * @param currentLine line holding the course record
+	 * @return the Course described by the line, or null if the line is missing fields,
+	 * 			has a malformed number, or describes an invalid Course
+	 */
+	public Course parse(CharSequence currentLine) {
+		split(currentLine);
+		error = null;
+
+		if (fieldCount < ARRANGED_FIELDS) {
+			error = MISSING_FIELD;
+			return null;
+		}
+		if (!isInt(CREDITS)) {
+			error = INVALID_NUMBER;
+			return null;
+		}
+
+		String name = field(NAME);
+		String title = field(TITLE);
+		String section = field(SECTION);
+		int credits = intField(CREDITS);
+		String instructorId = field(INSTRUCTOR_ID);
+		String meetingDays = field(MEETING_DAYS);
+
+		int startTime = 0;
+		int endTime = 0;
+		if (meetingDays.indexOf('A') < 0 || isInt(START_TIME)) {
+			if (!isInt(START_TIME)) {
+				error = START_TIME < fieldCount ? INVALID_NUMBER : MISSING_FIELD;
+				return null;
+			}
+			if (!isInt(END_TIME)) {
+				error = END_TIME < fieldCount ? INVALID_NUMBER : MISSING_FIELD;
+				return null;
+			}
+			startTime = intField(START_TIME);
+			endTime = intField(END_TIME);
+		}
+
+		ValidationResult result = Course.validate(name, title, section, credits, instructorId, meetingDays,
+				startTime, endTime);
+		if (result != ValidationResult.VALID) {
+			error = result.getMessage();
+			return null;
+		}
+		return new Course(name, title, section, credits, instructorId, meetingDays, startTime, endTime);
+	}
+
+
+	/**
+	 * Returns the reason the last line passed to parse was rejected.
+	 *
+	 * @return the reason, or null if the last line was valid
+	 */
+	public String getError() {
+		return error;
+	}
+
+
+	/**
+	 * Finds the offsets of up to MAX_FIELDS comma separated fields in the line.
+	 *
+	 * @param currentLine line to split
+	 */
+	private void split(CharSequence currentLine) {
+		line = currentLine;
+		fieldCount = 0;
+		int start = 0;
+		int length = currentLine.length();
+		for (int i = 0; i < length && fieldCount < MAX_FIELDS; i++) {
+			if (currentLine.charAt(i) == DELIMITER) {
+				fieldStart[fieldCount] = start;
+				fieldEnd[fieldCount] = i;
+				fieldCount++;
+				start = i + 1;
+			}
+		}
+		if (fieldCount < MAX_FIELDS && start < length) {
+			fieldStart[fieldCount] = start;
+			fieldEnd[fieldCount] = length;
+			fieldCount++;
+		}
+	}
+
+
+	/**
+	 * Returns the text of a field.
+	 *
+	 * @param field index of the field
+	 * @return the text of the field
+	 */
+	private String field(int field) {
+		return line.subSequence(fieldStart[field], fieldEnd[field]).toString();
+	}
+
+
+	/**
+	 * Checks if a field exists and holds an optionally signed decimal int.
+	 *
+	 * @param field index of the field
+	 * @return true if the field is an int
+	 * 			false if it is missing or is not an int
+	 */
+	private boolean isInt(int field) {
+		if (field >= fieldCount) {
+			return false;
+		}
+		int i = fieldStart[field];
+		int end = fieldEnd[field];
+		if (i < end && (line.charAt(i) == '-' || line.charAt(i) == '+')) {
+			i++;
+		}
+		if (i == end) {
+			return false;
+		}
+		long value = 0;
+		for (; i < end; i++) {
+			int digit = line.charAt(i) - '0';
+			if (digit < 0 || digit >= RADIX) {
+				return false;
+			}
+			value = value * RADIX + digit;
+			if (value > (long) Integer.MAX_VALUE + 1) {
+				return false;
+			}
+		}
+		return line.charAt(fieldStart[field]) == '-' || value <= Integer.MAX_VALUE;
+	}
+
+
+	/**
+	 * Returns the value of a field that has already been checked with isInt.
+	 *
+	 * @param field index of the field
+	 * @return the int value of the field
+	 */
+	private int intField(int field) {
+		int i = fieldStart[field];
+		int end = fieldEnd[field];
+		boolean negative = line.charAt(i) == '-';
+		if (negative || line.charAt(i) == '+') {
+			i++;
+		}
+		long value = 0;
+		for (; i < end; i++) {
+			value = value * RADIX + (line.charAt(i) - '0');
+		}
+		return (int) (negative ? -value : value);
+	}
+
+}
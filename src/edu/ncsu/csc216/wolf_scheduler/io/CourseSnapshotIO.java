@@ -0,0 +1,273 @@
+/**
+ *
+ */
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Reads and writes binary snapshots of a course catalog so that a catalog can be loaded
+ * without parsing its text file again.  A snapshot holds
+ * <ul>
+ * <li>a magic number and format version,</li>
+ * <li>the length and last modified time of the text file it was made from,</li>
+ * <li>a table of every distinct String used by the Courses and the load report,</li>
+ * <li>one fixed-width record per Course that refers to the table by index,</li>
+ * <li>the duplicate and rejection logs of the load report, and</li>
+ * <li>a CRC32 checksum of everything before it.</li>
+ * </ul>
+ * A snapshot is only used if its checksum matches and the text file has not changed since
+ * the snapshot was written; otherwise the text file should be read instead.
+ *
+ * @author Bilal Mohamad
+ *
+ */
+public class CourseSnapshotIO {
+
+	/** Magic number at the start of every snapshot ("WSNP") */
+	private static final int MAGIC = 0x57534E50;
+	/** Version of the snapshot format */
+	private static final int VERSION = 1;
+	/** Size of the trailing checksum in bytes */
+	private static final int CHECKSUM_SIZE = 8;
+	/** Smallest size of a String in the string table: its two byte length */
+	private static final int MIN_STRING_SIZE = 2;
+	/** Size of a Course record: six string indices, the credits, and two times */
+	private static final int COURSE_SIZE = 6 * Integer.BYTES + 1 + 2 * Short.BYTES;
+	/** Size of a duplicate log entry: its line number */
+	private static final int DUPLICATE_SIZE = Integer.BYTES;
+	/** Size of a rejection log entry: its line number and reason index */
+	private static final int REJECTION_SIZE = 2 * Integer.BYTES;
+
+
+	/**
+	 * Writes a snapshot of the given Courses and load report, made from the given text file.
+	 * The length and last modified time of the text file must be taken before it is read, so
+	 * that a snapshot is never stamped with the state of a file that changed while it was
+	 * being parsed.  If the text file no longer matches them, no snapshot is written.  The
+	 * snapshot is written to a temporary file that is then moved into place, so a reader never
+	 * sees a partly written snapshot.
+	 *
+	 * @param snapshotFile   file to write the snapshot to
+	 * @param sourceFile     course records file the Courses were read from
+	 * @param sourceLength   length of the text file before it was read
+	 * @param sourceModified last modified time of the text file before it was read
+	 * @param courses        Courses read from the text file
+	 * @param report         report of the text load
+	 * @return true if the snapshot was written, or false if the text file changed since the
+	 * 			given length and time were taken
+	 * @throws IOException if the snapshot cannot be written
+	 */
+	public static boolean writeSnapshot(String snapshotFile, String sourceFile, long sourceLength,
+			long sourceModified, List<Course> courses, CourseLoadReport report) throws IOException {
+		ArrayList<String> strings = new ArrayList<String>();
+		HashMap<String, Integer> stringIds = new HashMap<String, Integer>();
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream records = new DataOutputStream(bytes);
+		records.writeInt(courses.size());
+		for (int i = 0; i < courses.size(); i++) {
+			Course c = courses.get(i);
+			records.writeInt(stringId(c.getName(), strings, stringIds));
+			records.writeInt(stringId(c.getTitle(), strings, stringIds));
+			records.writeInt(stringId(c.getSection(), strings, stringIds));
+			records.writeByte(c.getCredits());
+			records.writeInt(stringId(c.getInstructorId(), strings, stringIds));
+			records.writeInt(stringId(c.getMeetingDays(), strings, stringIds));
+			records.writeShort(c.getStartTime());
+			records.writeShort(c.getEndTime());
+		}
+		records.writeInt(report.getLinesRead());
+		int[] duplicates = report.getDuplicateLines();
+		records.writeInt(duplicates.length);
+		for (int i = 0; i < duplicates.length; i++) {
+			records.writeInt(duplicates[i]);
+		}
+		int[] rejected = report.getRejectedLines();
+		String[] reasons = report.getRejectionReasons();
+		records.writeInt(rejected.length);
+		for (int i = 0; i < rejected.length; i++) {
+			records.writeInt(rejected[i]);
+			records.writeInt(stringId(reasons[i], strings, stringIds));
+		}
+		records.flush();
+
+		ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(snapshot);
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeLong(sourceLength);
+		out.writeLong(sourceModified);
+		out.writeInt(strings.size());
+		for (int i = 0; i < strings.size(); i++) {
+			out.writeUTF(strings.get(i));
+		}
+		bytes.writeTo(out);
+		out.flush();
+
+		CRC32 checksum = new CRC32();
+		checksum.update(snapshot.toByteArray());
+		out.writeLong(checksum.getValue());
+		out.close();
+
+		File source = new File(sourceFile);
+		if (source.length() != sourceLength || source.lastModified() != sourceModified) {
+			return false;
+		}
+		Path target = new File(snapshotFile).getAbsoluteFile().toPath();
+		Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+		try {
+			Files.write(temp, snapshot.toByteArray());
+			try {
+				Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		finally {
+			Files.deleteIfExists(temp);
+		}
+		return true;
+	}
+
+
+	/**
+	 * Reads the Courses from a snapshot if it is valid and up to date with the given text file.
+	 *
+	 * @param snapshotFile file to read the snapshot from
+	 * @param sourceFile   course records file the snapshot should have been made from
+	 * @param report       report to fill in with the duplicate and rejection logs of the
+	 * 			original text load
+	 * @return the Courses in the snapshot, or null if the snapshot is missing, out of date,
+	 * 			from another format version, or corrupt
+	 */
+	public static ArrayList<Course> readSnapshot(String snapshotFile, String sourceFile, CourseLoadReport report) {
+		File source = new File(sourceFile);
+		File file = new File(snapshotFile);
+		if (!source.isFile() || !file.isFile()) {
+			return null;
+		}
+
+		try {
+			byte[] snapshot = Files.readAllBytes(file.toPath());
+			if (snapshot.length < CHECKSUM_SIZE) {
+				return null;
+			}
+			int length = snapshot.length - CHECKSUM_SIZE;
+			CRC32 checksum = new CRC32();
+			checksum.update(snapshot, 0, length);
+			DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot));
+			in.skipBytes(length);
+			if (in.readLong() != checksum.getValue()) {
+				return null;
+			}
+
+			in = new DataInputStream(new ByteArrayInputStream(snapshot, 0, length));
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				return null;
+			}
+			if (in.readLong() != source.length() || in.readLong() != source.lastModified()) {
+				return null;
+			}
+
+			String[] strings = new String[readCount(in, MIN_STRING_SIZE)];
+			for (int i = 0; i < strings.length; i++) {
+				strings[i] = in.readUTF();
+			}
+
+			int count = readCount(in, COURSE_SIZE);
+			ArrayList<Course> courses = new ArrayList<Course>(count);
+			for (int i = 0; i < count; i++) {
+				String name = strings[in.readInt()];
+				String title = strings[in.readInt()];
+				String section = strings[in.readInt()];
+				int credits = in.readByte();
+				String instructorId = strings[in.readInt()];
+				String meetingDays = strings[in.readInt()];
+				int startTime = in.readShort();
+				int endTime = in.readShort();
+				courses.add(new Course(name, title, section, credits, instructorId, meetingDays, startTime, endTime));
+			}
+
+			int linesRead = in.readInt();
+			int[] duplicates = new int[readCount(in, DUPLICATE_SIZE)];
+			for (int i = 0; i < duplicates.length; i++) {
+				duplicates[i] = in.readInt();
+			}
+			int[] rejected = new int[readCount(in, REJECTION_SIZE)];
+			String[] reasons = new String[rejected.length];
+			for (int i = 0; i < rejected.length; i++) {
+				rejected[i] = in.readInt();
+				reasons[i] = strings[in.readInt()];
+			}
+
+			//Only fill in the report once the whole snapshot has been read
+			report.setLinesRead(linesRead);
+			for (int i = 0; i < duplicates.length; i++) {
+				report.addDuplicate(duplicates[i]);
+			}
+			for (int i = 0; i < rejected.length; i++) {
+				report.addRejection(rejected[i], reasons[i]);
+			}
+			return courses;
+		}
+		catch (IOException | IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+			return null;
+		}
+	}
+
+
+	/**
+	 * Reads the number of entries in a table of the snapshot and checks that the rest of the
+	 * snapshot is long enough to hold them, so that a corrupt count cannot cause a huge or
+	 * negative allocation.
+	 *
+	 * @param in       stream positioned at the count, reading from a byte array
+	 * @param minBytes smallest number of bytes an entry takes
+	 * @return the number of entries
+	 * @throws IOException if the count is negative or there are too few bytes left for it
+	 */
+	private static int readCount(DataInputStream in, int minBytes) throws IOException {
+		int count = in.readInt();
+		if (count < 0 || (long) count * minBytes > in.available()) {
+			throw new IOException("Invalid count " + count);
+		}
+		return count;
+	}
+
+
+	/**
+	 * Returns the index of a String in the snapshot's string table, adding it if it is new.
+	 *
+	 * @param s         String to look up
+	 * @param strings   string table in index order
+	 * @param stringIds index of each String in the table
+	 * @return the index of the String
+	 */
+	private static int stringId(String s, ArrayList<String> strings, HashMap<String, Integer> stringIds) {
+		Integer id = stringIds.get(s);
+		if (id == null) {
+			id = strings.size();
+			strings.add(s);
+			stringIds.put(s, id);
+		}
+		return id;
+	}
+
+}
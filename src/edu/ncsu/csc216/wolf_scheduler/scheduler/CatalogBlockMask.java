@@ -0,0 +1,150 @@
+/**
+ *
+ */
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.BitSet;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Mask of the catalog sections that cannot be added to a schedule because they conflict
+ * with, or are a duplicate of, a scheduled Activity.  Each section keeps a count of the
+ * scheduled Activities blocking it, so adding or removing an Activity only touches the
+ * sections it blocks.  The sections a scheduled Activity conflicts with are found in
+ * per-day lists of the catalog sections sorted by start time, by only comparing the sections
+ * in the window of start times that could overlap it, so the mask never builds the catalog's
+ * ConflictGraph.
+ *
+ * @author Bilal Mohamad
+ *
+ */
+public class CatalogBlockMask {
+
+	/** Catalog the mask is over */
+	private final CourseCatalog catalog;
+	/** Sections of the catalog meeting on each day, by start time */
+	private final ConflictGraph.DayList[] days;
+	/** Number of scheduled Activities blocking each section */
+	private final int[] blockers;
+	/** Sections with at least one blocking Activity */
+	private final BitSet blocked;
+
+
+	/**
+	 * Constructs the mask of a catalog for the given schedule.
+	 *
+	 * @param catalog  catalog the mask is over
+	 * @param schedule Activities currently in the schedule
+	 */
+	public CatalogBlockMask(CourseCatalog catalog, List<Activity> schedule) {
+		this.catalog = catalog;
+		this.days = ConflictGraph.DayList.byDay(catalog.getCourses());
+		this.blockers = new int[catalog.size()];
+		this.blocked = new BitSet(catalog.size());
+		for (int i = 0; i < schedule.size(); i++) {
+			add(schedule.get(i));
+		}
+	}
+
+
+	/**
+	 * Returns the catalog the mask is over.
+	 *
+	 * @return the catalog
+	 */
+	public CourseCatalog getCatalog() {
+		return catalog;
+	}
+
+
+	/**
+	 * Updates the mask for an Activity added to the schedule.
+	 *
+	 * @param activity the added Activity
+	 */
+	public void add(Activity activity) {
+		BitSet sections = findBlockedSections(activity);
+		for (int i = sections.nextSetBit(0); i >= 0; i = sections.nextSetBit(i + 1)) {
+			if (blockers[i]++ == 0) {
+				blocked.set(i);
+			}
+		}
+	}
+
+
+	/**
+	 * Updates the mask for an Activity removed from the schedule.
+	 *
+	 * @param activity the removed Activity
+	 */
+	public void remove(Activity activity) {
+		BitSet sections = findBlockedSections(activity);
+		for (int i = sections.nextSetBit(0); i >= 0; i = sections.nextSetBit(i + 1)) {
+			if (--blockers[i] == 0) {
+				blocked.clear(i);
+			}
+		}
+	}
+
+
+	/**
+	 * Clears the mask for an empty schedule.
+	 */
+	public void clear() {
+		for (int i = 0; i < blockers.length; i++) {
+			blockers[i] = 0;
+		}
+		blocked.clear();
+	}
+
+
+	/**
+	 * Checks if a section can be added to the schedule.
+	 *
+	 * @param idx catalog position of the section
+	 * @return true if no scheduled Activity blocks the section
+	 */
+	public boolean isAddable(int idx) {
+		return !blocked.get(idx);
+	}
+
+
+	/**
+	 * Returns the catalog positions of the sections that cannot be added.
+	 *
+	 * @return a new BitSet of the blocked sections
+	 */
+	public BitSet getBlocked() {
+		return (BitSet) blocked.clone();
+	}
+
+
+	/**
+	 * Finds the catalog sections an Activity blocks.
+	 *
+	 * @param activity a scheduled Activity
+	 * @return catalog positions of the sections that conflict with or duplicate the Activity
+	 */
+	private BitSet findBlockedSections(Activity activity) {
+		BitSet sections = new BitSet(catalog.size());
+		int mask = activity.getMeetingDaysMask();
+		for (int day = 0; day < days.length; day++) {
+			if ((mask & (1 << day)) != 0) {
+				days[day].findConflicts(catalog.getCourses(), activity, sections);
+			}
+		}
+
+		if (activity instanceof Course) {
+			List<Course> duplicates = catalog.getSections(((Course) activity).getName());
+			for (int i = 0; i < duplicates.size(); i++) {
+				Course c = duplicates.get(i);
+				sections.set(catalog.indexOf(c.getName(), c.getSection()));
+			}
+		}
+		return sections;
+	}
+
+}
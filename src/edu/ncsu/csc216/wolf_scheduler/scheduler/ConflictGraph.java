@@ -0,0 +1,285 @@
+/**
+ *
+ */
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+
+/**
+ * Precomputed conflict graph over a list of Activities, usually the sections of a course
+ * catalog.  Each Activity has a row of bits, one for every Activity in the list, and a bit is
+ * set when the two Activities conflict.  Once built, checking a pair is a single bit lookup
+ * and the sections compatible with one section are a bitset difference.
+ *
+ * The graph is built from one list per day of the week of the Activities meeting on that
+ * day, sorted by start time.  An Activity can only overlap the Activities on its days that
+ * start no later than it ends and no earlier than its start minus the longest Activity of the
+ * day, so each row is filled by binary searching for that window and only comparing the
+ * Activities in it.  Every row is filled by a single worker, so the rows are built in parallel
+ * into one array without any locking.  The graph does not change after it is built and may
+ * be shared between threads.
+ *
+ * @author Bilal Mohamad
+ *
+ */
+public class ConflictGraph {
+
+	/** Number of days in a week */
+	private static final int DAYS_IN_WEEK = 7;
+	/** Number of bits in a row word */
+	private static final int WORD_BITS = Long.SIZE;
+	/** Largest number of words the rows can hold, which is the largest safe array length */
+	private static final long MAX_ROWS_LENGTH = Integer.MAX_VALUE - 8;
+	/** Number of Activities in the graph */
+	private final int size;
+	/** Number of words in each row */
+	private final int words;
+	/** Rows of the graph, one after another */
+	private final long[] rows;
+
+
+	/**
+	 * Builds the conflict graph of the given Activities.  Activities are numbered by their
+	 * position in the list.
+	 *
+	 * @param activities Activities to build the graph over
+	 * @throws IllegalArgumentException if the list is null or has too many Activities for the
+	 * 			rows to fit in one array
+	 */
+	public ConflictGraph(List<? extends Activity> activities) {
+		if (activities == null) {
+			throw new IllegalArgumentException("Activities cannot be null.");
+		}
+		size = activities.size();
+		words = (size + WORD_BITS - 1) / WORD_BITS;
+
+		long length = (long) size * words;
+		if (length > MAX_ROWS_LENGTH) {
+			throw new IllegalArgumentException("Too many activities for a conflict graph.");
+		}
+		rows = new long[(int) length];
+
+		DayList[] days = DayList.byDay(activities);
+		IntStream.range(0, size).parallel().forEach(i -> fillRow(activities, days, i));
+	}
+
+
+	/**
+	 * Returns the number of Activities in the graph.
+	 *
+	 * @return the size of the graph
+	 */
+	public int size() {
+		return size;
+	}
+
+
+	/**
+	 * Checks if two Activities conflict.
+	 *
+	 * @param i position of the first Activity
+	 * @param j position of the second Activity
+	 * @return true if the Activities conflict
+	 */
+	public boolean conflicts(int i, int j) {
+		checkIndex(i);
+		checkIndex(j);
+		return (rows[rowStart(i) + j / WORD_BITS] & (1L << j)) != 0;
+	}
+
+
+	/**
+	 * Returns the positions of the Activities that conflict with an Activity.
+	 *
+	 * @param i position of the Activity
+	 * @return a new BitSet of the conflicting positions
+	 */
+	public BitSet getConflicts(int i) {
+		checkIndex(i);
+		return BitSet.valueOf(Arrays.copyOfRange(rows, rowStart(i), rowStart(i) + words));
+	}
+
+
+	/**
+	 * Returns the candidates that do not conflict with an Activity.
+	 *
+	 * @param i          position of the Activity
+	 * @param candidates positions of the candidate Activities
+	 * @return a new BitSet of the candidates that are compatible with the Activity
+	 */
+	public BitSet getCompatible(int i, BitSet candidates) {
+		BitSet compatible = (BitSet) candidates.clone();
+		compatible.andNot(getConflicts(i));
+		return compatible;
+	}
+
+
+	/**
+	 * Checks that a position is in the graph.
+	 *
+	 * @param i position to check
+	 * @throws IndexOutOfBoundsException if the position is out of range
+	 */
+	private void checkIndex(int i) {
+		if (i < 0 || i >= size) {
+			throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+		}
+	}
+
+
+	/**
+	 * Returns the index of the first word of a row.  The constructor checks that every row
+	 * fits in the array, so the index fits in an int.
+	 *
+	 * @param i row
+	 * @return the index of the row's first word
+	 */
+	private int rowStart(int i) {
+		return (int) ((long) i * words);
+	}
+
+
+	/**
+	 * Sets the bits of the Activities that conflict with one Activity.  For each of its days,
+	 * only the Activities in the window that could overlap it are compared.
+	 *
+	 * @param activities Activities in the graph
+	 * @param days       Activities meeting on each day, by start time
+	 * @param i          position of the Activity, whose row is filled
+	 */
+	private void fillRow(List<? extends Activity> activities, DayList[] days, int i) {
+		Activity a = activities.get(i);
+		int mask = a.getMeetingDaysMask();
+		int start = rowStart(i);
+		for (int day = 0; day < DAYS_IN_WEEK; day++) {
+			if ((mask & (1 << day)) == 0) {
+				continue;
+			}
+			DayList list = days[day];
+			int to = list.startingAfter(a.getEndMinutes());
+			for (int k = list.startingAfter(a.getStartMinutes() - list.longest - 1); k < to; k++) {
+				int j = list.positions[k];
+				if (j != i && (rows[start + j / WORD_BITS] & (1L << j)) == 0
+						&& activities.get(j).getEndMinutes() >= a.getStartMinutes()
+						&& a.conflictsWith(activities.get(j), null)) {
+					rows[start + j / WORD_BITS] |= 1L << j;
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * Activities meeting on one day of the week, sorted by start time.  Besides filling the
+	 * rows of the graph, the lists let CatalogBlockMask find the sections one Activity
+	 * conflicts with without building the graph.
+	 *
+	 * @author Bilal Mohamad
+	 *
+	 */
+	static class DayList {
+
+		/** Start time in minutes of each Activity, in ascending order */
+		private final int[] starts;
+		/** Position in the graph of each Activity */
+		private final int[] positions;
+		/** Length in minutes of the longest Activity on the day */
+		private final int longest;
+
+
+		/**
+		 * Collects and sorts the Activities meeting on a day.
+		 *
+		 * @param activities Activities in the graph
+		 * @param day        day of the week, as a bit of Activity.getMeetingDaysMask
+		 */
+		DayList(List<? extends Activity> activities, int day) {
+			//Sort on start time, with the position in the low bits
+			long[] order = new long[activities.size()];
+			int count = 0;
+			int max = 0;
+			for (int i = 0; i < activities.size(); i++) {
+				Activity a = activities.get(i);
+				if ((a.getMeetingDaysMask() & (1 << day)) != 0) {
+					order[count++] = (long) a.getStartMinutes() << Integer.SIZE | i;
+					max = Math.max(max, a.getEndMinutes() - a.getStartMinutes());
+				}
+			}
+			Arrays.sort(order, 0, count);
+
+			starts = new int[count];
+			positions = new int[count];
+			for (int k = 0; k < count; k++) {
+				starts[k] = (int) (order[k] >>> Integer.SIZE);
+				positions[k] = (int) order[k];
+			}
+			longest = max;
+		}
+
+
+		/**
+		 * Collects and sorts the Activities meeting on each day of the week.
+		 *
+		 * @param activities Activities to index
+		 * @return one list for each day of the week
+		 */
+		static DayList[] byDay(List<? extends Activity> activities) {
+			DayList[] days = new DayList[DAYS_IN_WEEK];
+			for (int day = 0; day < DAYS_IN_WEEK; day++) {
+				days[day] = new DayList(activities, day);
+			}
+			return days;
+		}
+
+
+		/**
+		 * Sets the positions of the Activities on the day that conflict with an Activity.
+		 * Only the Activities in the window that could overlap it are compared, and the
+		 * comparison also checks the weeks the Activities meet.
+		 *
+		 * @param activities Activities the list was built from
+		 * @param activity   Activity to find the conflicts of
+		 * @param conflicts  positions to set the conflicts in
+		 */
+		void findConflicts(List<? extends Activity> activities, Activity activity, BitSet conflicts) {
+			int to = startingAfter(activity.getEndMinutes());
+			for (int k = startingAfter(activity.getStartMinutes() - longest - 1); k < to; k++) {
+				int j = positions[k];
+				if (activities.get(j).getEndMinutes() >= activity.getStartMinutes()
+						&& activity.conflictsWith(activities.get(j), null)) {
+					conflicts.set(j);
+				}
+			}
+		}
+
+
+		/**
+		 * Finds the first Activity that starts after a time.
+		 *
+		 * @param minutes time in minutes
+		 * @return the index of the first Activity starting after the time, or the number of
+		 * 			Activities if there is none
+		 */
+		int startingAfter(int minutes) {
+			int low = 0;
+			int high = starts.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (starts[mid] <= minutes) {
+					low = mid + 1;
+				}
+				else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+
+	}
+
+}
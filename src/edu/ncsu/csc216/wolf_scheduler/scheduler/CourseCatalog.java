@@ -0,0 +1,242 @@
+/**
+ *
+ */
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseLoadReport;
+
+/**
+ * Read-only snapshot of the course catalog.  Along with the list of Courses in file order,
+ * CourseCatalog keeps a hash index keyed on (name, section) and a secondary index from a
+ * Course name to all of its sections, so that lookups do not have to scan the catalog.
+ * The indexes are built once when the catalog is created and never change, so a catalog
+ * can be shared between threads and replaced as a whole when the catalog file is reloaded.
+ *
+ * @author Bilal Mohamad
+ *
+ */
+public class CourseCatalog {
+
+	/** Courses in the order they were read */
+	private final ArrayList<Course> courses;
+	/** Catalog position of each Course, keyed on name and then section */
+	private final HashMap<String, HashMap<String, Integer>> positions;
+	/** All sections of a Course, keyed on name */
+	private final HashMap<String, List<Course>> sectionsByName;
+	/** Report of the load the Courses came from */
+	private final CourseLoadReport loadReport;
+	/** Conflict graph of the Courses, built the first time it is needed */
+	private volatile ConflictGraph conflictGraph;
+
+
+	/**
+	 * Constructs a CourseCatalog from the given list of Courses and builds its indexes.
+	 * If two Courses share a name and section, the first one is kept.
+	 *
+	 * @param courses list of Courses in the catalog
+	 * @throws IllegalArgumentException if the list is null
+	 */
+	public CourseCatalog(List<Course> courses) {
+		this(courses, new CourseLoadReport());
+	}
+
+
+	/**
+	 * Constructs a CourseCatalog from the given list of Courses and the report of the load
+	 * they came from, and builds its indexes.  If two Courses share a name and section, the
+	 * first one is kept.
+	 *
+	 * @param courses    list of Courses in the catalog
+	 * @param loadReport report of the load the Courses came from
+	 * @throws IllegalArgumentException if the list is null
+	 */
+	public CourseCatalog(List<Course> courses, CourseLoadReport loadReport) {
+		if (courses == null) {
+			throw new IllegalArgumentException("Catalog cannot be null.");
+		}
+
+		this.loadReport = loadReport;
+		this.courses = new ArrayList<Course>(courses.size());
+		this.positions = new HashMap<String, HashMap<String, Integer>>();
+		this.sectionsByName = new HashMap<String, List<Course>>();
+
+		HashMap<String, ArrayList<Course>> sections = new HashMap<String, ArrayList<Course>>();
+		for (int i = 0; i < courses.size(); i++) {
+			Course c = courses.get(i);
+			HashMap<String, Integer> byName = positions.get(c.getName());
+			if (byName == null) {
+				byName = new HashMap<String, Integer>();
+				positions.put(c.getName(), byName);
+				sections.put(c.getName(), new ArrayList<Course>());
+			}
+			if (!byName.containsKey(c.getSection())) {
+				byName.put(c.getSection(), this.courses.size());
+				sections.get(c.getName()).add(c);
+				this.courses.add(c);
+			}
+		}
+
+		for (String name : sections.keySet()) {
+			sectionsByName.put(name, Collections.unmodifiableList(sections.get(name)));
+		}
+	}
+
+
+	/**
+	 * Returns the report of the load the Courses came from.
+	 *
+	 * @return the load report
+	 */
+	public CourseLoadReport getLoadReport() {
+		return loadReport;
+	}
+
+
+	/**
+	 * Returns the number of Courses in the catalog.
+	 *
+	 * @return the number of Courses
+	 */
+	public int size() {
+		return courses.size();
+	}
+
+
+	/**
+	 * Returns the Course at the given catalog position.
+	 *
+	 * @param idx position of the Course in the catalog
+	 * @return the Course at that position
+	 */
+	public Course get(int idx) {
+		return courses.get(idx);
+	}
+
+
+	/**
+	 * Returns the Courses of the catalog in catalog order.
+	 *
+	 * @return an unmodifiable view of the Courses
+	 */
+	List<Course> getCourses() {
+		return Collections.unmodifiableList(courses);
+	}
+
+
+	/**
+	 * Returns the catalog position of the Course with the given name and section.
+	 *
+	 * @param name    name of the Course
+	 * @param section section of the Course
+	 * @return the position of the Course, or -1 if it is not in the catalog
+	 */
+	public int indexOf(String name, String section) {
+		HashMap<String, Integer> byName = positions.get(name);
+		if (byName == null) {
+			return -1;
+		}
+		Integer idx = byName.get(section);
+		if (idx == null) {
+			return -1;
+		}
+		return idx;
+	}
+
+
+	/**
+	 * Returns the Course with the given name and section.
+	 *
+	 * @param name    name of the Course
+	 * @param section section of the Course
+	 * @return the Course, or null if it is not in the catalog
+	 */
+	public Course getCourse(String name, String section) {
+		int idx = indexOf(name, section);
+		if (idx == -1) {
+			return null;
+		}
+		return courses.get(idx);
+	}
+
+
+	/**
+	 * Returns every section of the Course with the given name in catalog order.
+	 *
+	 * @param name name of the Course
+	 * @return an unmodifiable list of the sections, empty if there are none
+	 */
+	public List<Course> getSections(String name) {
+		List<Course> sections = sectionsByName.get(name);
+		if (sections == null) {
+			return Collections.emptyList();
+		}
+		return sections;
+	}
+
+
+	/**
+	 * Returns the conflict graph of the catalog, where Courses are numbered by catalog
+	 * position.  The graph is built the first time it is needed and then kept.
+	 *
+	 * @return the conflict graph
+	 */
+	public ConflictGraph getConflictGraph() {
+		ConflictGraph graph = conflictGraph;
+		if (graph == null) {
+			synchronized (this) {
+				graph = conflictGraph;
+				if (graph == null) {
+					graph = new ConflictGraph(courses);
+					conflictGraph = graph;
+				}
+			}
+		}
+		return graph;
+	}
+
+
+	/**
+	 * Returns the conflict graph of the catalog if it has already been built, without
+	 * building it.
+	 *
+	 * @return the conflict graph, or null if it has not been built yet
+	 */
+	ConflictGraph getBuiltConflictGraph() {
+		return conflictGraph;
+	}
+
+
+	/**
+	 * Returns the sections of one Course that do not conflict with a section of another.
+	 *
+	 * @param name      name of the Course whose section is fixed
+	 * @param section   the fixed section
+	 * @param otherName name of the Course whose sections are checked
+	 * @return list of the compatible sections of otherName in catalog order, empty if either
+	 * 			Course is not in the catalog
+	 */
+	public List<Course> getCompatibleSections(String name, String section, String otherName) {
+		int idx = indexOf(name, section);
+		List<Course> candidates = getSections(otherName);
+		ArrayList<Course> compatible = new ArrayList<Course>();
+		if (idx == -1) {
+			return compatible;
+		}
+
+		ConflictGraph graph = getConflictGraph();
+		for (int i = 0; i < candidates.size(); i++) {
+			Course c = candidates.get(i);
+			if (!graph.conflicts(idx, indexOf(c.getName(), c.getSection()))) {
+				compatible.add(c);
+			}
+		}
+		return compatible;
+	}
+
+}
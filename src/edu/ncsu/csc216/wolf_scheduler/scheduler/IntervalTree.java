@@ -0,0 +1,275 @@
+/**
+ *
+ */
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.List;
+import java.util.Random;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+
+/**
+ * Interval tree over the start and end times of Activities that meet on one day.  The tree
+ * is a treap ordered on start time, and every node also keeps the latest end time in its
+ * subtree so that a search can skip subtrees that end before the interval it is looking
+ * for.  Inserting and removing take expected O(log n) time and finding the k Activities
+ * that overlap an interval takes expected O(log n + k) time.  Intervals are inclusive at
+ * both ends, the same as Activity.conflictsWith.
+ *
+ * @author Bilal Mohamad
+ *
+ */
+class IntervalTree {
+
+	/** Root of the treap, or null if the tree is empty */
+	private Node root;
+	/** Number of Activities in the tree */
+	private int size;
+	/** Source of node priorities */
+	private final Random priorities = new Random();
+
+
+	/**
+	 * Returns the number of Activities in the tree.
+	 *
+	 * @return the size of the tree
+	 */
+	int size() {
+		return size;
+	}
+
+
+	/**
+	 * Adds an Activity to the tree.
+	 *
+	 * @param activity Activity to add
+	 */
+	void insert(Activity activity) {
+		root = insert(root, new Node(activity, priorities.nextInt()));
+		size++;
+	}
+
+
+	/**
+	 * Removes an Activity from the tree.
+	 *
+	 * @param activity Activity to remove
+	 * @return true if the Activity was in the tree
+	 */
+	boolean remove(Activity activity) {
+		int before = size;
+		root = remove(root, activity, activity.getStartMinutes());
+		return size < before;
+	}
+
+
+	/**
+	 * Removes every Activity from the tree.
+	 */
+	void clear() {
+		root = null;
+		size = 0;
+	}
+
+
+	/**
+	 * Adds every Activity whose time overlaps the given interval to a list, in start time order.
+	 *
+	 * @param start    start of the interval
+	 * @param end      end of the interval
+	 * @param overlaps list to add the overlapping Activities to
+	 */
+	void findOverlaps(int start, int end, List<Activity> overlaps) {
+		findOverlaps(root, start, end, overlaps);
+	}
+
+
+	/**
+	 * Inserts a node below the given subtree root, rotating it up while its priority is higher
+	 * than its parent's.
+	 *
+	 * @param node subtree root
+	 * @param added node to insert
+	 * @return the new subtree root
+	 */
+	private static Node insert(Node node, Node added) {
+		if (node == null) {
+			return added;
+		}
+		if (added.start < node.start) {
+			node.left = insert(node.left, added);
+			if (node.left.priority > node.priority) {
+				node = rotateRight(node);
+			}
+		}
+		else {
+			node.right = insert(node.right, added);
+			if (node.right.priority > node.priority) {
+				node = rotateLeft(node);
+			}
+		}
+		node.update();
+		return node;
+	}
+
+
+	/**
+	 * Removes the node holding an Activity from the given subtree.  Activities with the same
+	 * start time may be on either side of each other after rotations, so both sides are
+	 * searched when the start times are equal.
+	 *
+	 * @param node     subtree root
+	 * @param activity Activity to remove
+	 * @param start    start time of the Activity
+	 * @return the new subtree root
+	 */
+	private Node remove(Node node, Activity activity, int start) {
+		if (node == null) {
+			return null;
+		}
+		if (node.activity == activity) {
+			size--;
+			return merge(node.left, node.right);
+		}
+		int before = size;
+		if (start <= node.start) {
+			node.left = remove(node.left, activity, start);
+		}
+		if (size == before && start >= node.start) {
+			node.right = remove(node.right, activity, start);
+		}
+		node.update();
+		return node;
+	}
+
+
+	/**
+	 * Joins two subtrees where every start time on the left is at most every start time on the right.
+	 *
+	 * @param left  left subtree
+	 * @param right right subtree
+	 * @return root of the joined tree
+	 */
+	private static Node merge(Node left, Node right) {
+		if (left == null) {
+			return right;
+		}
+		if (right == null) {
+			return left;
+		}
+		if (left.priority > right.priority) {
+			left.right = merge(left.right, right);
+			left.update();
+			return left;
+		}
+		right.left = merge(left, right.left);
+		right.update();
+		return right;
+	}
+
+
+	/**
+	 * Adds the Activities of a subtree that overlap the given interval to a list.
+	 *
+	 * @param node     subtree root
+	 * @param start    start of the interval
+	 * @param end      end of the interval
+	 * @param overlaps list to add the overlapping Activities to
+	 */
+	private static void findOverlaps(Node node, int start, int end, List<Activity> overlaps) {
+		if (node == null || node.maxEnd < start) {
+			return;
+		}
+		findOverlaps(node.left, start, end, overlaps);
+		if (node.start <= end) {
+			if (node.end >= start) {
+				overlaps.add(node.activity);
+			}
+			findOverlaps(node.right, start, end, overlaps);
+		}
+	}
+
+
+	/**
+	 * Rotates a subtree to the right.
+	 *
+	 * @param node subtree root
+	 * @return the new subtree root
+	 */
+	private static Node rotateRight(Node node) {
+		Node left = node.left;
+		node.left = left.right;
+		left.right = node;
+		node.update();
+		left.update();
+		return left;
+	}
+
+
+	/**
+	 * Rotates a subtree to the left.
+	 *
+	 * @param node subtree root
+	 * @return the new subtree root
+	 */
+	private static Node rotateLeft(Node node) {
+		Node right = node.right;
+		node.right = right.left;
+		right.left = node;
+		node.update();
+		right.update();
+		return right;
+	}
+
+
+	/**
+	 * Node of the treap holding one Activity.
+	 */
+	private static class Node {
+
+		/** Activity held by the node */
+		private final Activity activity;
+		/** Start time of the Activity */
+		private final int start;
+		/** End time of the Activity */
+		private final int end;
+		/** Heap priority of the node */
+		private final int priority;
+		/** Latest end time in the subtree */
+		private int maxEnd;
+		/** Left child */
+		private Node left;
+		/** Right child */
+		private Node right;
+
+
+		/**
+		 * Constructs a leaf node for an Activity.
+		 *
+		 * @param activity Activity held by the node
+		 * @param priority heap priority of the node
+		 */
+		Node(Activity activity, int priority) {
+			this.activity = activity;
+			this.start = activity.getStartMinutes();
+			this.end = activity.getEndMinutes();
+			this.priority = priority;
+			this.maxEnd = end;
+		}
+
+
+		/**
+		 * Recomputes the latest end time in the subtree from the children.
+		 */
+		void update() {
+			maxEnd = end;
+			if (left != null && left.maxEnd > maxEnd) {
+				maxEnd = left.maxEnd;
+			}
+			if (right != null && right.maxEnd > maxEnd) {
+				maxEnd = right.maxEnd;
+			}
+		}
+	}
+
+}
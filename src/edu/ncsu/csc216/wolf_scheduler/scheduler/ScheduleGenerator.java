@@ -0,0 +1,850 @@
+/**
+ *
+ */
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Finds every conflict free schedule with exactly one section of each requested Course.
+ * A schedule is an array of catalog positions, one for each requested Course in request
+ * order.
+ *
+ * Sections of a Course that meet on the same days at the same times, and differ only in
+ * section number or instructor, conflict with exactly the same sections, so the sections of
+ * each Course are first grouped into time classes.  Courses always meet every week, so days
+ * and times decide a class.  The search runs over the classes and only expands a class into
+ * its sections once it is part of a conflict free schedule.
+ *
+ * The search is a backtracking search that picks a class of one Course at a time, starting
+ * with the Course with the fewest classes.  Every class in the search has a precomputed
+ * bitset of the classes of the other Courses it is compatible with.  The bitsets are taken
+ * from the catalog's ConflictGraph if it has already been built; otherwise the classes are
+ * compared directly, so that a generator never pays to build the graph of the whole
+ * catalog.  The classes still open to each later Course are kept as the intersection of the
+ * bitsets of the classes chosen so far, so a choice that leaves some later Course with no
+ * class is dropped at once instead of being explored.  Schedules are returned in order of
+ * the chosen classes and then of the sections chosen from them.
+ *
+ * Schedules can be read lazily through iterator, spliterator, or stream.  The search keeps
+ * its own stack of choices and only runs far enough to find the next schedule, so a caller
+ * that stops after the first few schedules does not pay for the rest of the search, and
+ * nothing is held in memory but the current choices.
+ *
+ * generateBest ranks the schedules with a ScheduleScorer and keeps only the best few.  It
+ * is a branch and bound search: once it holds enough schedules, it skips every choice whose
+ * bound is no better than the worst schedule it holds, so most of the search is never
+ * expanded.  A scorer may tell the sections of a class apart, so it is asked about each
+ * section, but the open classes are only narrowed once per class.
+ *
+ * The search can also be run on a ForkJoinPool.  A subtree is split into one task per open
+ * class while it still holds more than SPLIT_THRESHOLD combinations, and idle workers steal
+ * the tasks.  Each task returns its own schedules and a parent joins them in class order,
+ * so the parallel search returns the same schedules in the same order as generate.
+ *
+ * @author Bilal Mohamad
+ *
+ */
+public class ScheduleGenerator implements Iterable<int[]> {
+
+	/** Number of bits in a bitset word */
+	private static final int WORD_BITS = Long.SIZE;
+	/** Largest number of combinations left in a subtree that is searched by a single task */
+	private static final long SPLIT_THRESHOLD = 1 << 12;
+	/** Catalog the sections come from */
+	private final CourseCatalog catalog;
+	/** Number of requested Courses */
+	private final int courseCount;
+	/** Request position of the Course searched at each depth */
+	private final int[] requestOrder;
+	/** First search index of the classes of the Course at each depth, then the number of classes */
+	private final int[] courseStart;
+	/** Catalog positions of the sections in the class at each search index, in catalog order */
+	private final int[][] members;
+	/** Number of words in a bitset over the search indices */
+	private final int words;
+	/** Search indices of the classes of other Courses compatible with each class */
+	private final long[][] compatible;
+	/** Number of parallel search tasks that have started their search */
+	private final LongAdder tasksRun = new LongAdder();
+
+
+	/**
+	 * Constructs a generator for the given Courses, groups their sections into time classes,
+	 * and precomputes the compatibility bitsets of the classes.
+	 *
+	 * @param catalog catalog to take the sections from
+	 * @param names   names of the requested Courses
+	 * @throws IllegalArgumentException if the catalog or list is null, or a Course is requested
+	 * 			more than once
+	 */
+	public ScheduleGenerator(CourseCatalog catalog, List<String> names) {
+		if (catalog == null || names == null) {
+			throw new IllegalArgumentException("Courses cannot be null.");
+		}
+		if (new HashSet<String>(names).size() != names.size()) {
+			throw new IllegalArgumentException("A course cannot be requested more than once.");
+		}
+		this.catalog = catalog;
+		this.courseCount = names.size();
+
+		//Group the sections of each Course by days and times, keeping catalog order
+		ArrayList<ArrayList<int[]>> classes = new ArrayList<ArrayList<int[]>>();
+		for (int i = 0; i < courseCount; i++) {
+			LinkedHashMap<Long, ArrayList<Integer>> byTime = new LinkedHashMap<Long, ArrayList<Integer>>();
+			List<Course> sections = catalog.getSections(names.get(i));
+			for (int j = 0; j < sections.size(); j++) {
+				Course c = sections.get(j);
+				long key = (long) c.getMeetingDaysMask() << 32 | c.getStartMinutes() << 16 | c.getEndMinutes();
+				byTime.computeIfAbsent(key, k -> new ArrayList<Integer>()).add(catalog.indexOf(c.getName(), c.getSection()));
+			}
+			ArrayList<int[]> courseClasses = new ArrayList<int[]>();
+			for (ArrayList<Integer> positions : byTime.values()) {
+				courseClasses.add(positions.stream().mapToInt(Integer::intValue).toArray());
+			}
+			classes.add(courseClasses);
+		}
+
+		//Search the Courses with the fewest classes first
+		Integer[] order = new Integer[courseCount];
+		for (int i = 0; i < courseCount; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, (a, b) -> classes.get(a).size() - classes.get(b).size());
+
+		requestOrder = new int[courseCount];
+		courseStart = new int[courseCount + 1];
+		ArrayList<int[]> searchClasses = new ArrayList<int[]>();
+		for (int depth = 0; depth < courseCount; depth++) {
+			requestOrder[depth] = order[depth];
+			courseStart[depth] = searchClasses.size();
+			searchClasses.addAll(classes.get(order[depth]));
+		}
+		courseStart[courseCount] = searchClasses.size();
+		members = searchClasses.toArray(new int[searchClasses.size()][]);
+		words = (members.length + WORD_BITS - 1) / WORD_BITS;
+
+		//Every section of a class conflicts with the same sections, so the first one stands in
+		ConflictGraph graph = catalog.getBuiltConflictGraph();
+		compatible = new long[members.length][words];
+		for (int depth = 0; depth < courseCount; depth++) {
+			for (int s = courseStart[depth]; s < courseStart[depth + 1]; s++) {
+				Course c = catalog.get(members[s][0]);
+				for (int t = 0; t < members.length; t++) {
+					if (t >= courseStart[depth] && t < courseStart[depth + 1]) {
+						continue;
+					}
+					boolean conflict = graph != null ? graph.conflicts(members[s][0], members[t][0])
+							: c.conflictsWith(catalog.get(members[t][0]), null);
+					if (!conflict) {
+						compatible[s][t / WORD_BITS] |= 1L << t;
+					}
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * Returns the number of time classes the sections of the requested Courses fall into.
+	 *
+	 * @return the number of classes
+	 */
+	int getClassCount() {
+		return members.length;
+	}
+
+
+	/**
+	 * Returns the number of parallel search tasks that have started their search.  A task
+	 * that finds the search cancelled before it starts is not counted.
+	 *
+	 * @return the number of tasks run
+	 */
+	long getTasksRun() {
+		return tasksRun.sum();
+	}
+
+
+	/**
+	 * Returns the number of requested Courses, which is the length of every schedule.
+	 *
+	 * @return the number of Courses
+	 */
+	public int getCourseCount() {
+		return courseCount;
+	}
+
+
+	/**
+	 * Finds every conflict free schedule.
+	 *
+	 * @return list of schedules, each an array of catalog positions in request order
+	 */
+	public List<int[]> generate() {
+		ArrayList<int[]> schedules = new ArrayList<int[]>();
+		spliterator().forEachRemaining(schedules::add);
+		return schedules;
+	}
+
+
+	/**
+	 * Returns an Iterator that finds each conflict free schedule as it is asked for.
+	 *
+	 * @return iterator over the schedules in the same order as generate
+	 */
+	@Override
+	public Iterator<int[]> iterator() {
+		return Spliterators.iterator(spliterator());
+	}
+
+
+	/**
+	 * Returns a Spliterator that finds each conflict free schedule as it is asked for.  It
+	 * splits by handing off part of the classes of the first Course searched.
+	 *
+	 * @return spliterator over the schedules in the same order as generate
+	 */
+	@Override
+	public Spliterator<int[]> spliterator() {
+		long[] open = new long[words];
+		Arrays.fill(open, -1L);
+		return new ScheduleSpliterator(null, 0, open, new int[courseCount], courseStart[0],
+				courseStart[Math.min(1, courseCount)]);
+	}
+
+
+	/**
+	 * Returns a sequential Stream of the conflict free schedules, found as they are consumed.
+	 *
+	 * @return stream of the schedules in the same order as generate
+	 */
+	public Stream<int[]> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+
+	/**
+	 * Finds every conflict free schedule on the common ForkJoinPool.
+	 *
+	 * @return list of schedules in the same order as generate
+	 */
+	public List<int[]> generateParallel() {
+		return submit(ForkJoinPool.commonPool()).join();
+	}
+
+
+	/**
+	 * Starts a search for every conflict free schedule on the given pool.  Cancelling the
+	 * returned task stops every part of the search that is still running, and joining it then
+	 * throws a CancellationException.
+	 *
+	 * @param pool pool to run the search on
+	 * @return the task running the search, whose result is in the same order as generate
+	 */
+	public ForkJoinTask<List<int[]>> submit(ForkJoinPool pool) {
+		long[] open = new long[words];
+		Arrays.fill(open, -1L);
+		return pool.submit(new SearchTask(null, 0, open, new int[courseCount]));
+	}
+
+
+	/**
+	 * Finds the best conflict free schedules by the given scorer.  Schedules with the same
+	 * score are ranked in the order the search finds them, choosing a class and then a section
+	 * of it for one Course at a time, so the ranking is always the same for the same catalog.
+	 *
+	 * @param scorer scorer to rank the schedules with, lower first
+	 * @param k      largest number of schedules to return
+	 * @return list of up to k schedules, best first
+	 * @throws IllegalArgumentException if the scorer is null or k is negative
+	 */
+	public List<int[]> generateBest(ScheduleScorer scorer, int k) {
+		if (scorer == null) {
+			throw new IllegalArgumentException("Scorer cannot be null.");
+		}
+		if (k < 0) {
+			throw new IllegalArgumentException("Invalid number of schedules");
+		}
+		ArrayList<int[]> schedules = new ArrayList<int[]>();
+		if (k == 0) {
+			return schedules;
+		}
+		BestSearch search = new BestSearch(scorer, k);
+		if (courseCount == 0) {
+			search.offer(scorer.score(search.courses, 0));
+		}
+		else {
+			Arrays.fill(search.candidates[0], -1L);
+			search.search(0);
+		}
+
+		ArrayList<RankedSchedule> ranked = new ArrayList<RankedSchedule>(search.best);
+		ranked.sort((a, b) -> -a.compareTo(b));
+		for (int i = 0; i < ranked.size(); i++) {
+			schedules.add(ranked.get(i).schedule);
+		}
+		return schedules;
+	}
+
+
+	/**
+	 * Returns the Courses of a schedule.
+	 *
+	 * @param schedule array of catalog positions
+	 * @return list of the Courses in the same order
+	 */
+	public List<Course> getCourses(int[] schedule) {
+		ArrayList<Course> courses = new ArrayList<Course>(schedule.length);
+		for (int i = 0; i < schedule.length; i++) {
+			courses.add(catalog.get(schedule[i]));
+		}
+		return courses;
+	}
+
+
+	/**
+	 * Intersects the open classes with the classes compatible with a choice.
+	 *
+	 * @param open       classes open before the choice
+	 * @param compatible classes compatible with the choice
+	 * @param next       set to the classes open after the choice
+	 * @param fromDepth  first depth that still needs a class
+	 * @return true if every Course from fromDepth on still has an open class
+	 */
+	private boolean narrow(long[] open, long[] compatible, long[] next, int fromDepth) {
+		for (int w = courseStart[fromDepth] / WORD_BITS; w < words; w++) {
+			next[w] = open[w] & compatible[w];
+		}
+		for (int depth = fromDepth; depth < courseCount; depth++) {
+			if (nextOpen(next, courseStart[depth], courseStart[depth + 1]) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	/**
+	 * Estimates the size of a subtree as the product of the number of open classes of each
+	 * Course from a depth on.
+	 *
+	 * @param open  open classes
+	 * @param depth first depth that still needs a class
+	 * @return the number of combinations, or more than SPLIT_THRESHOLD if it is larger
+	 */
+	private long combinations(long[] open, int depth) {
+		long product = 1;
+		for (int d = depth; d < courseCount && product <= SPLIT_THRESHOLD; d++) {
+			int count = 0;
+			for (int s = nextOpen(open, courseStart[d], courseStart[d + 1]); s >= 0; s = nextOpen(open, s + 1, courseStart[d + 1])) {
+				count++;
+			}
+			product *= count;
+		}
+		return product;
+	}
+
+
+	/**
+	 * Finds the next set bit in a range of a bitset.
+	 *
+	 * @param bits bitset to search
+	 * @param from first index to check
+	 * @param end  index just past the last index to check
+	 * @return the index of the next set bit, or -1 if there is none before end
+	 */
+	private static int nextOpen(long[] bits, int from, int end) {
+		if (from >= end) {
+			return -1;
+		}
+		int w = from / WORD_BITS;
+		long word = bits[w] & (-1L << from);
+		while (true) {
+			if (word != 0) {
+				int bit = w * WORD_BITS + Long.numberOfTrailingZeros(word);
+				return bit < end ? bit : -1;
+			}
+			w++;
+			if (w * WORD_BITS >= end) {
+				return -1;
+			}
+			word = bits[w];
+		}
+	}
+
+
+	/**
+	 * Converts the chosen classes and sections into catalog positions in request order.
+	 *
+	 * @param chosen search index of the class chosen at each depth
+	 * @param member index in its class of the section chosen at each depth
+	 * @return the schedule
+	 */
+	private int[] toSchedule(int[] chosen, int[] member) {
+		int[] schedule = new int[courseCount];
+		for (int depth = 0; depth < courseCount; depth++) {
+			schedule[requestOrder[depth]] = members[chosen[depth]][member[depth]];
+		}
+		return schedule;
+	}
+
+
+	/**
+	 * Searches the subtree below a set of chosen classes, splitting it into one task per open
+	 * class while it is large.
+	 *
+	 * @author Bilal Mohamad
+	 *
+	 */
+	private class SearchTask extends RecursiveTask<List<int[]>> {
+
+		/** ID used for serialization */
+		private static final long serialVersionUID = 1L;
+		/** Task of the whole search, checked for cancellation */
+		private final ForkJoinTask<?> root;
+		/** Depth of the Course to choose a class of */
+		private final int depth;
+		/** Classes open at this depth */
+		private final long[] open;
+		/** Search index of the class chosen at each earlier depth */
+		private final int[] chosen;
+
+
+		/**
+		 * Constructs a task for a subtree.
+		 *
+		 * @param root   task of the whole search, or null if this task is the whole search
+		 * @param depth  depth of the Course to choose a class of
+		 * @param open   classes open at this depth
+		 * @param chosen search index of the class chosen at each earlier depth
+		 */
+		SearchTask(ForkJoinTask<?> root, int depth, long[] open, int[] chosen) {
+			this.root = root == null ? this : root;
+			this.depth = depth;
+			this.open = open;
+			this.chosen = chosen;
+		}
+
+
+		/**
+		 * Searches the subtree.
+		 *
+		 * @return the schedules in the subtree in class order
+		 */
+		@Override
+		protected List<int[]> compute() {
+			if (root.isCancelled()) {
+				throw new CancellationException();
+			}
+			tasksRun.increment();
+			ArrayList<int[]> schedules = new ArrayList<int[]>();
+			if (depth == courseCount || combinations(open, depth) <= SPLIT_THRESHOLD) {
+				int end = depth == courseCount ? courseStart[depth] : courseStart[depth + 1];
+				new ScheduleSpliterator(root, depth, open, chosen, courseStart[depth], end)
+						.forEachRemaining(schedules::add);
+				return schedules;
+			}
+
+			ArrayList<SearchTask> tasks = new ArrayList<SearchTask>();
+			int end = courseStart[depth + 1];
+			for (int s = nextOpen(open, courseStart[depth], end); s >= 0; s = nextOpen(open, s + 1, end)) {
+				long[] next = new long[words];
+				if (narrow(open, compatible[s], next, depth + 1)) {
+					int[] prefix = chosen.clone();
+					prefix[depth] = s;
+					tasks.add(new SearchTask(root, depth + 1, next, prefix));
+				}
+			}
+			invokeAll(tasks);
+			for (int i = 0; i < tasks.size(); i++) {
+				schedules.addAll(tasks.get(i).join());
+			}
+			return schedules;
+		}
+
+	}
+
+
+	/**
+	 * Backtracking search over the subtree below a set of chosen classes that stops at each
+	 * schedule it finds.  Once a class has been chosen for every Course, each combination of
+	 * their sections is returned in turn before the search moves on.  The classes of the first
+	 * Course in the subtree are limited to a range so that trySplit can split the range in two.
+	 *
+	 * @author Bilal Mohamad
+	 *
+	 */
+	private class ScheduleSpliterator implements Spliterator<int[]> {
+
+		/** Task whose cancellation stops the search, or null if it cannot be cancelled */
+		private final ForkJoinTask<?> root;
+		/** Depth of the first Course in the subtree */
+		private final int top;
+		/** Search index just past the last class of the first Course to try */
+		private int end;
+		/** Depth of the Course being chosen, or less than top once the search is done */
+		private int depth;
+		/** Open classes at each depth; the rows from top on are filled in as the search goes */
+		private final long[][] candidates;
+		/** Search index of the class chosen at each depth */
+		private final int[] chosen;
+		/** Index in its class of the section chosen at each depth */
+		private final int[] member;
+		/** Whether member holds a combination that has already been returned */
+		private boolean expanding;
+
+
+		/**
+		 * Constructs a search of a subtree.
+		 *
+		 * @param root   task to stop the search when it is cancelled, or null if the search
+		 * 			cannot be cancelled
+		 * @param top    depth of the first Course in the subtree
+		 * @param open   classes open at that depth, which are not changed
+		 * @param prefix search index of the class chosen at each earlier depth
+		 * @param from   search index of the first class of the first Course to try
+		 * @param end    search index just past the last class of the first Course to try
+		 */
+		ScheduleSpliterator(ForkJoinTask<?> root, int top, long[] open, int[] prefix, int from, int end) {
+			this.root = root;
+			this.top = top;
+			this.end = end;
+			this.depth = top;
+			candidates = new long[courseCount + 1][];
+			for (int d = top; d <= courseCount; d++) {
+				candidates[d] = d == top ? open : new long[words];
+			}
+			chosen = prefix.clone();
+			member = new int[courseCount];
+			if (top < courseCount) {
+				chosen[top] = from - 1;
+			}
+		}
+
+
+		/**
+		 * Constructs a copy of another search that stops before a class of its first Course.
+		 *
+		 * @param other search to copy
+		 * @param end   search index just past the last class of the first Course to try
+		 */
+		private ScheduleSpliterator(ScheduleSpliterator other, int end) {
+			this.root = other.root;
+			this.top = other.top;
+			this.end = end;
+			this.depth = other.depth;
+			candidates = new long[courseCount + 1][];
+			candidates[top] = other.candidates[top];
+			for (int d = top + 1; d <= courseCount; d++) {
+				candidates[d] = other.candidates[d].clone();
+			}
+			chosen = other.chosen.clone();
+			member = other.member.clone();
+			expanding = other.expanding;
+		}
+
+
+		/**
+		 * Finds the next schedule and passes it to the action.
+		 *
+		 * @param action action to take the schedule
+		 * @return true if there was another schedule
+		 */
+		@Override
+		public boolean tryAdvance(Consumer<? super int[]> action) {
+			if (!advance()) {
+				return false;
+			}
+			action.accept(toSchedule(chosen, member));
+			return true;
+		}
+
+
+		/**
+		 * Splits the classes of the first Course that have not been tried in half.  As the
+		 * schedules are ordered, the returned Spliterator takes over the search so far and the
+		 * first half, and this one starts over from the second half.
+		 *
+		 * @return a Spliterator over the schedules before the second half, or null if there are
+		 * 			too few classes to split
+		 */
+		@Override
+		public Spliterator<int[]> trySplit() {
+			if (depth < top || top == courseCount) {
+				return null;
+			}
+			long[] open = candidates[top];
+			int count = 0;
+			for (int s = nextOpen(open, chosen[top] + 1, end); s >= 0; s = nextOpen(open, s + 1, end)) {
+				count++;
+			}
+			//Before the first class is tried, keep at least one for this Spliterator
+			if (count < (depth > top ? 1 : 2)) {
+				return null;
+			}
+			int mid = nextOpen(open, chosen[top] + 1, end);
+			for (int i = 0; i < count / 2; i++) {
+				mid = nextOpen(open, mid + 1, end);
+			}
+			Spliterator<int[]> split = new ScheduleSpliterator(this, mid);
+			depth = top;
+			chosen[top] = mid - 1;
+			expanding = false;
+			return split;
+		}
+
+
+		/**
+		 * Returns the estimated number of schedules, which is unknown.
+		 *
+		 * @return Long.MAX_VALUE
+		 */
+		@Override
+		public long estimateSize() {
+			return Long.MAX_VALUE;
+		}
+
+
+		/**
+		 * Returns the characteristics of the schedules.
+		 *
+		 * @return ORDERED and NONNULL
+		 */
+		@Override
+		public int characteristics() {
+			return ORDERED | NONNULL;
+		}
+
+
+		/**
+		 * Moves the search to the next schedule, which is left in chosen and member.  If the
+		 * root task is cancelled, the search stops at the next schedule or class it tries.
+		 *
+		 * @return true if there was another schedule
+		 * @throws CancellationException if the root task has been cancelled
+		 */
+		private boolean advance() {
+			checkCancelled();
+			if (depth == courseCount) {
+				if (!expanding) {
+					expanding = true;
+					return true;
+				}
+				if (nextMember()) {
+					return true;
+				}
+				expanding = false;
+				depth--;
+			}
+			while (depth >= top) {
+				checkCancelled();
+				int limit = depth == top ? end : courseStart[depth + 1];
+				int s = nextOpen(candidates[depth], chosen[depth] + 1, limit);
+				if (s < 0) {
+					depth--;
+					continue;
+				}
+				chosen[depth] = s;
+				if (narrow(candidates[depth], compatible[s], candidates[depth + 1], depth + 1)) {
+					depth++;
+					if (depth == courseCount) {
+						expanding = true;
+						return true;
+					}
+					chosen[depth] = courseStart[depth] - 1;
+				}
+			}
+			return false;
+		}
+
+
+		/**
+		 * Stops the search if the root task has been cancelled.
+		 *
+		 * @throws CancellationException if the root task has been cancelled
+		 */
+		private void checkCancelled() {
+			if (root != null && root.isCancelled()) {
+				throw new CancellationException();
+			}
+		}
+
+
+		/**
+		 * Moves member to the next combination of sections of the chosen classes, with the
+		 * last depth changing fastest.
+		 *
+		 * @return true if there was another combination, false if member is back to the first
+		 */
+		private boolean nextMember() {
+			for (int d = courseCount - 1; d >= 0; d--) {
+				member[d]++;
+				if (member[d] < members[chosen[d]].length) {
+					return true;
+				}
+				member[d] = 0;
+			}
+			return false;
+		}
+
+	}
+
+
+	/**
+	 * Schedule found by generateBest with its score and the order it was found in.
+	 *
+	 * @author Bilal Mohamad
+	 *
+	 */
+	private static class RankedSchedule implements Comparable<RankedSchedule> {
+
+		/** Catalog positions of the schedule */
+		private final int[] schedule;
+		/** Score of the schedule */
+		private final double score;
+		/** Number of schedules found before this one */
+		private final long found;
+
+
+		/**
+		 * Constructs a ranked schedule.
+		 *
+		 * @param schedule catalog positions of the schedule
+		 * @param score    score of the schedule
+		 * @param found    number of schedules found before this one
+		 */
+		RankedSchedule(int[] schedule, double score, long found) {
+			this.schedule = schedule;
+			this.score = score;
+			this.found = found;
+		}
+
+
+		/**
+		 * Compares schedules so that the worse schedule comes first: the higher score, or the
+		 * one found later if the scores are equal.
+		 *
+		 * @param other schedule to compare to
+		 * @return a negative number if this schedule is worse
+		 */
+		@Override
+		public int compareTo(RankedSchedule other) {
+			int c = Double.compare(other.score, score);
+			return c != 0 ? c : Long.compare(other.found, found);
+		}
+
+	}
+
+
+	/**
+	 * Branch and bound search for generateBest, which keeps the best schedules found so far in
+	 * a heap with the worst on top.
+	 *
+	 * @author Bilal Mohamad
+	 *
+	 */
+	private class BestSearch {
+
+		/** Scorer to rank the schedules with */
+		private final ScheduleScorer scorer;
+		/** Number of schedules to keep */
+		private final int k;
+		/** Best schedules found so far, worst first */
+		private final PriorityQueue<RankedSchedule> best = new PriorityQueue<RankedSchedule>();
+		/** Open classes at each depth */
+		private final long[][] candidates = new long[courseCount + 1][words];
+		/** Search index of the class chosen at each depth */
+		private final int[] chosen = new int[courseCount];
+		/** Index in its class of the section chosen at each depth */
+		private final int[] member = new int[courseCount];
+		/** Courses chosen so far, in search order */
+		private final ArrayList<Course> courses = new ArrayList<Course>();
+		/** Number of schedules offered so far */
+		private long found;
+
+
+		/**
+		 * Constructs a search.
+		 *
+		 * @param scorer scorer to rank the schedules with
+		 * @param k      number of schedules to keep
+		 */
+		BestSearch(ScheduleScorer scorer, int k) {
+			this.scorer = scorer;
+			this.k = k;
+		}
+
+
+		/**
+		 * Chooses each section of each open class of the Course at a depth in turn, and
+		 * searches the later Courses unless the bound shows they cannot beat the schedules
+		 * already kept.  The open classes of the later Courses only depend on the class, so
+		 * they are narrowed once for all of its sections.
+		 *
+		 * @param depth depth of the Course to choose a section of
+		 */
+		void search(int depth) {
+			long[] open = candidates[depth];
+			long[] next = candidates[depth + 1];
+			int end = courseStart[depth + 1];
+			int remaining = courseCount - depth - 1;
+			for (int s = nextOpen(open, courseStart[depth], end); s >= 0; s = nextOpen(open, s + 1, end)) {
+				if (!narrow(open, compatible[s], next, depth + 1)) {
+					continue;
+				}
+				chosen[depth] = s;
+				for (int m = 0; m < members[s].length; m++) {
+					member[depth] = m;
+					courses.add(catalog.get(members[s][m]));
+					double bound = scorer.score(courses, remaining);
+					if (remaining == 0) {
+						offer(bound);
+					}
+					else if (best.size() < k || bound < best.peek().score) {
+						search(depth + 1);
+					}
+					courses.remove(courses.size() - 1);
+				}
+			}
+		}
+
+
+		/**
+		 * Keeps the chosen schedule if it is one of the best k found so far.  A schedule that
+		 * only ties the worst one kept was found after it, so it is ranked below it and dropped.
+		 *
+		 * @param score score of the chosen schedule
+		 */
+		void offer(double score) {
+			if (best.size() < k) {
+				best.add(new RankedSchedule(toSchedule(chosen, member), score, found));
+			}
+			else if (score < best.peek().score) {
+				best.poll();
+				best.add(new RankedSchedule(toSchedule(chosen, member), score, found));
+			}
+			found++;
+		}
+
+	}
+
+}
@@ -0,0 +1,204 @@
+/**
+ *
+ */
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Index of the Activities in a schedule for checking a new Activity against it.  Each day of
+ * the week has an IntervalTree of the Activities that meet on it, so the Activities that
+ * conflict with a new one are found in O(log n + k) time rather than by comparing it with
+ * every scheduled Activity.  Courses are also indexed by name and Events by title, which are
+ * what isDuplicate compares.  Arranged Activities meet on no day and are only in the
+ * duplicate indexes.
+ *
+ * A ScheduleIndex must be kept in step with its schedule by calling add, remove, and clear
+ * whenever the schedule changes.  It is not safe to share between threads.
+ *
+ * @author Bilal Mohamad
+ *
+ */
+public class ScheduleIndex {
+
+	/** Number of days in a week */
+	private static final int DAYS_IN_WEEK = 7;
+	/** Activities that meet on each day, indexed by Activity.getMeetingDaysMask bit */
+	private final IntervalTree[] days = new IntervalTree[DAYS_IN_WEEK];
+	/** Scheduled Courses keyed on name */
+	private final HashMap<String, Activity> coursesByName = new HashMap<String, Activity>();
+	/** Scheduled Events keyed on title */
+	private final HashMap<String, Activity> eventsByTitle = new HashMap<String, Activity>();
+	/** Activities overlapping the last search, reused between searches */
+	private final ArrayList<Activity> overlaps = new ArrayList<Activity>();
+	/** Number of Activities in the index */
+	private int size;
+
+
+	/**
+	 * Constructs an empty ScheduleIndex.
+	 */
+	public ScheduleIndex() {
+		for (int i = 0; i < DAYS_IN_WEEK; i++) {
+			days[i] = new IntervalTree();
+		}
+	}
+
+
+	/**
+	 * Returns the number of Activities in the index.
+	 *
+	 * @return the size of the index
+	 */
+	public int size() {
+		return size;
+	}
+
+
+	/**
+	 * Adds a scheduled Activity to the index.
+	 *
+	 * @param activity Activity to add
+	 */
+	public void add(Activity activity) {
+		int mask = activity.getMeetingDaysMask();
+		while (mask != 0) {
+			days[Integer.numberOfTrailingZeros(mask)].insert(activity);
+			mask &= mask - 1;
+		}
+		duplicateKeys(activity).put(duplicateKey(activity), activity);
+		size++;
+	}
+
+
+	/**
+	 * Removes a scheduled Activity from the index.
+	 *
+	 * @param activity Activity to remove
+	 */
+	public void remove(Activity activity) {
+		int mask = activity.getMeetingDaysMask();
+		while (mask != 0) {
+			days[Integer.numberOfTrailingZeros(mask)].remove(activity);
+			mask &= mask - 1;
+		}
+		if (duplicateKeys(activity).remove(duplicateKey(activity), activity)) {
+			size--;
+		}
+	}
+
+
+	/**
+	 * Removes every Activity from the index.
+	 */
+	public void clear() {
+		for (int i = 0; i < DAYS_IN_WEEK; i++) {
+			days[i].clear();
+		}
+		coursesByName.clear();
+		eventsByTitle.clear();
+		size = 0;
+	}
+
+
+	/**
+	 * Finds a scheduled Activity that the given Activity is a duplicate of.
+	 *
+	 * @param activity Activity to check
+	 * @return the scheduled duplicate, or null if there is none
+	 */
+	public Activity findDuplicate(Activity activity) {
+		Activity scheduled = duplicateKeys(activity).get(duplicateKey(activity));
+		return scheduled != null && scheduled.isDuplicate(activity) ? scheduled : null;
+	}
+
+
+	/**
+	 * Finds a scheduled Activity that conflicts with the given Activity.
+	 *
+	 * @param activity Activity to check
+	 * @return a conflicting Activity, or null if there is none
+	 */
+	public Activity findConflict(Activity activity) {
+		return findConflict(activity, null);
+	}
+
+
+	/**
+	 * Finds a scheduled Activity other than the ignored one that conflicts with the given Activity.
+	 *
+	 * @param activity Activity to check
+	 * @param ignored  scheduled Activity to leave out, such as one being replaced, or null
+	 * @return a conflicting Activity, or null if there is none
+	 */
+	public Activity findConflict(Activity activity, Activity ignored) {
+		int mask = activity.getMeetingDaysMask();
+		while (mask != 0) {
+			overlaps.clear();
+			days[Integer.numberOfTrailingZeros(mask)].findOverlaps(activity.getStartMinutes(), activity.getEndMinutes(), overlaps);
+			for (int i = 0; i < overlaps.size(); i++) {
+				if (overlaps.get(i) != ignored && activity.conflictsWith(overlaps.get(i), null)) {
+					return overlaps.get(i);
+				}
+			}
+			mask &= mask - 1;
+		}
+		return null;
+	}
+
+
+	/**
+	 * Finds every scheduled Activity that conflicts with the given Activity.  An Activity that
+	 * shares several days with it is only listed once.
+	 *
+	 * @param activity Activity to check
+	 * @return list of conflicting Activities, ordered by their first shared day and then by start time
+	 */
+	public List<Activity> findConflicts(Activity activity) {
+		ArrayList<Activity> conflicts = new ArrayList<Activity>();
+		int mask = activity.getMeetingDaysMask();
+		while (mask != 0) {
+			int day = Integer.numberOfTrailingZeros(mask);
+			overlaps.clear();
+			days[day].findOverlaps(activity.getStartMinutes(), activity.getEndMinutes(), overlaps);
+			for (int i = 0; i < overlaps.size(); i++) {
+				Activity other = overlaps.get(i);
+				//Only list an Activity on the first day the two share
+				int shared = activity.getMeetingDaysMask() & other.getMeetingDaysMask();
+				if (Integer.numberOfTrailingZeros(shared) == day && activity.conflictsWith(other, null)) {
+					conflicts.add(other);
+				}
+			}
+			mask &= mask - 1;
+		}
+		return conflicts;
+	}
+
+
+	/**
+	 * Returns the duplicate index an Activity belongs in.
+	 *
+	 * @param activity the Activity
+	 * @return the Course index for Courses and the Event index otherwise
+	 */
+	private HashMap<String, Activity> duplicateKeys(Activity activity) {
+		return activity instanceof Course ? coursesByName : eventsByTitle;
+	}
+
+
+	/**
+	 * Returns the key isDuplicate compares for an Activity.
+	 *
+	 * @param activity the Activity
+	 * @return the name of a Course or the title of any other Activity
+	 */
+	private static String duplicateKey(Activity activity) {
+		return activity instanceof Course ? ((Course) activity).getName() : activity.getTitle();
+	}
+
+}
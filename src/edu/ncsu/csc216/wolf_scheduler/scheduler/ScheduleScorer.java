@@ -0,0 +1,161 @@
+/**
+ *
+ */
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Scores schedules for ScheduleGenerator.generateBest, where a lower score is better.  A
+ * scorer is also asked about partial schedules during the search, and must then return a
+ * lower bound that no completion of the partial schedule can score below.  The search skips
+ * every completion of a partial schedule whose bound is no better than the worst schedule it
+ * is keeping, so a bound that is too high loses schedules, while a bound that is too low only
+ * makes the search slower.
+ *
+ * @author Bilal Mohamad
+ */
+public interface ScheduleScorer {
+
+	/**
+	 * Scores a schedule, or bounds the score of every completion of a partial schedule.
+	 *
+	 * @param courses   Courses chosen so far, in no particular order
+	 * @param remaining number of Courses still to be chosen
+	 * @return the score of the schedule if remaining is 0, otherwise a lower bound on the
+	 * 			score of any schedule that adds remaining more Courses
+	 */
+	double score(List<Course> courses, int remaining);
+
+	/**
+	 * Returns a scorer that adds this scorer's score to another's.
+	 *
+	 * @param other scorer to add
+	 * @return the sum of the scorers
+	 */
+	default ScheduleScorer plus(ScheduleScorer other) {
+		if (other == null) {
+			throw new IllegalArgumentException("Scorer cannot be null.");
+		}
+		return (courses, remaining) -> score(courses, remaining) + other.score(courses, remaining);
+	}
+
+	/**
+	 * Returns a scorer that multiplies this scorer's score by a weight.
+	 *
+	 * @param weight weight of the score, which cannot be negative so that bounds stay bounds
+	 * @return the weighted scorer
+	 */
+	default ScheduleScorer times(double weight) {
+		if (!(weight >= 0)) {
+			throw new IllegalArgumentException("Invalid weight");
+		}
+		return (courses, remaining) -> weight * score(courses, remaining);
+	}
+
+	/**
+	 * Returns a scorer that counts the days of the week with at least one class.  Adding a
+	 * Course never removes a day, so the days of a partial schedule are a bound.
+	 *
+	 * @return the days on campus scorer
+	 */
+	static ScheduleScorer daysOnCampus() {
+		return (courses, remaining) -> {
+			int days = 0;
+			for (int i = 0; i < courses.size(); i++) {
+				days |= courses.get(i).getMeetingDaysMask();
+			}
+			return Integer.bitCount(days);
+		};
+	}
+
+	/**
+	 * Returns a scorer that counts the Courses that start before a time, such as 1000 for
+	 * no classes before 10:00AM.  Arranged Courses never count.  Adding a Course never lowers
+	 * the count, so the count of a partial schedule is a bound.
+	 *
+	 * @param time military time that classes should not start before
+	 * @return the early start scorer
+	 * @throws IllegalArgumentException if the time is not a valid military time
+	 */
+	static ScheduleScorer startsBefore(int time) {
+		if (time < 0 || time > Activity.UPPER_TIME || time % Activity.HOUR_CONVERTER > Activity.UPPER_HOUR) {
+			throw new IllegalArgumentException("Invalid time");
+		}
+		return (courses, remaining) -> {
+			int early = 0;
+			for (int i = 0; i < courses.size(); i++) {
+				Course c = courses.get(i);
+				if (c.getMeetingDaysMask() != 0 && c.getStartTime() < time) {
+					early++;
+				}
+			}
+			return early;
+		};
+	}
+
+	/**
+	 * Returns a scorer that counts the Courses not taught by one of the preferred instructors.
+	 * Adding a Course never lowers the count, so the count of a partial schedule is a bound.
+	 *
+	 * @param instructorIds ids of the preferred instructors
+	 * @return the preferred instructor scorer
+	 */
+	static ScheduleScorer preferredInstructors(Collection<String> instructorIds) {
+		if (instructorIds == null) {
+			throw new IllegalArgumentException("Instructors cannot be null.");
+		}
+		HashSet<String> preferred = new HashSet<String>(instructorIds);
+		return (courses, remaining) -> {
+			int others = 0;
+			for (int i = 0; i < courses.size(); i++) {
+				if (!preferred.contains(courses.get(i).getInstructorId())) {
+					others++;
+				}
+			}
+			return others;
+		};
+	}
+
+	/**
+	 * Returns a scorer that totals the minutes between consecutive classes on each day.  A
+	 * later Course can fill a gap, so partial schedules are bounded by 0 and this scorer only
+	 * prunes when it is combined with another.
+	 *
+	 * @return the gap scorer
+	 */
+	static ScheduleScorer gaps() {
+		return (courses, remaining) -> {
+			if (remaining > 0) {
+				return 0;
+			}
+			int days = 0;
+			for (int i = 0; i < courses.size(); i++) {
+				days |= courses.get(i).getMeetingDaysMask();
+			}
+			int total = 0;
+			ArrayList<Course> day = new ArrayList<Course>();
+			for (int rest = days; rest != 0; rest &= rest - 1) {
+				int bit = Integer.lowestOneBit(rest);
+				day.clear();
+				for (int i = 0; i < courses.size(); i++) {
+					if ((courses.get(i).getMeetingDaysMask() & bit) != 0) {
+						day.add(courses.get(i));
+					}
+				}
+				day.sort((a, b) -> a.getStartMinutes() - b.getStartMinutes());
+				for (int i = 1; i < day.size(); i++) {
+					total += Math.max(0, day.get(i).getStartMinutes() - day.get(i - 1).getEndMinutes());
+				}
+			}
+			return total;
+		};
+	}
+
+}
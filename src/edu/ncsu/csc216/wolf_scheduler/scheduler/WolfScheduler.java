@@ -3,17 +3,32 @@
  */
 package edu.ncsu.csc216.wolf_scheduler.scheduler;
 
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 
 import edu.ncsu.csc216.wolf_scheduler.course.Activity;
-import edu.ncsu.csc216.wolf_scheduler.course.ConflictException;
+import edu.ncsu.csc216.wolf_scheduler.course.ConflictResult;
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
 import edu.ncsu.csc216.wolf_scheduler.course.Event;
 import edu.ncsu.csc216.wolf_scheduler.io.ActivityRecordIO;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseLoadReport;
 import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseSnapshotIO;
 
 /**
  *  WolfScheduler reads in and stores as a list all of the Course records stored in a file.
@@ -28,10 +43,22 @@ public class WolfScheduler {
 	
 	/** Current title for the schedule */
 	private String title;
-	/** ArrayList for all the courses */
-	private ArrayList<Course> courseCatalog;
+	/** Name of the course records file */
+	private String fileName;
+	/** Indexed catalog of all the courses, replaced as a whole when the catalog is reloaded */
+	private volatile CourseCatalog courseCatalog;
+	/** File the catalog snapshot is kept in, or null if there is none */
+	private String snapshotFileName;
+	/** Service watching the course records file, or null if it is not being watched */
+	private WatchService catalogWatcher;
+	/** Time in milliseconds the file must be unchanged before a reload */
+	private static final long RELOAD_DELAY = 200;
 	/** ArrayList for all the courses currently in the schedule*/
 	private ArrayList<Activity> scheduleCatalog;
+	/** Index of the schedule for duplicate and conflict checks */
+	private ScheduleIndex scheduleIndex;
+	/** Catalog sections blocked by the schedule, or null until it is first needed */
+	private CatalogBlockMask blockMask;
 
 	
 	/**
@@ -40,15 +67,190 @@ public class WolfScheduler {
 	 * @throws IllegalArgumentException if the file is not found
 	 */
 	public WolfScheduler(String fileName) {
+		this(fileName, null);
+	}
+
+	
+	/**
+	 * Constructor for WolfScheduler that keeps a binary snapshot of the catalog.  If the
+	 * snapshot file holds an up to date snapshot of the course records file, the catalog is
+	 * loaded from it; otherwise the course records file is read and a new snapshot is written.
+	 * @param fileName name of file
+	 * @param snapshotFileName name of the snapshot file, or null to always read the course records file
+	 * @throws IllegalArgumentException if the file is not found
+	 */
+	public WolfScheduler(String fileName, String snapshotFileName) {
+		this.fileName = fileName;
+		this.snapshotFileName = snapshotFileName;
+		courseCatalog = readCatalog();
+		
+		scheduleCatalog = new ArrayList<Activity>();
+		scheduleIndex = new ScheduleIndex();
+		title = "My Schedule";
+	}
+
+	
+	/**
+	 * Reads the course records file, or an up to date snapshot of it, and builds a new
+	 * course catalog along with its name and section indexes.  The length and last modified
+	 * time of the file are taken before it is read, so a file that changes while it is being
+	 * parsed does not leave behind a snapshot that looks up to date.
+	 * @return the new catalog
+	 * @throws IllegalArgumentException if the file is not found or cannot be read
+	 */
+	private CourseCatalog readCatalog() {
+		CourseLoadReport report = new CourseLoadReport();
+		if (snapshotFileName != null) {
+			ArrayList<Course> courses = CourseSnapshotIO.readSnapshot(snapshotFileName, fileName, report);
+			if (courses != null) {
+				return new CourseCatalog(courses, report);
+			}
+		}
+		
+		File source = new File(fileName);
+		long sourceLength = source.length();
+		long sourceModified = source.lastModified();
+		ArrayList<Course> courses;
 		try {
-			courseCatalog = CourseRecordIO.readCourseRecords(fileName);
+			courses = CourseRecordIO.readCourseRecords(fileName, report);
 		}
 		catch (FileNotFoundException e) {
 			throw new IllegalArgumentException("Cannot find file.");
 		}
+		catch (UncheckedIOException e) {
+			throw new IllegalArgumentException("Cannot read file.");
+		}
 		
-		scheduleCatalog = new ArrayList<Activity>();
-		title = "My Schedule";
+		if (snapshotFileName != null) {
+			try {
+				CourseSnapshotIO.writeSnapshot(snapshotFileName, fileName, sourceLength, sourceModified,
+						courses, report);
+			}
+			catch (IOException e) {
+				//the snapshot is only a cache, so the catalog is still usable
+			}
+		}
+		return new CourseCatalog(courses, report);
+	}
+
+	
+	/**
+	 * Reads the course records file again and swaps in the new catalog.  Callers that are
+	 * already using the old catalog finish with it; later calls see the new one.  The
+	 * current schedule is kept.
+	 * @throws IllegalArgumentException if the file is not found or cannot be read, in which
+	 * 			case the current catalog is kept
+	 */
+	public void reloadCatalog() {
+		courseCatalog = readCatalog();
+	}
+
+	
+	/**
+	 * Starts watching the course records file for changes.  When the file is created or
+	 * modified, and then left unchanged for a short time, it is reloaded on a background
+	 * thread with reloadCatalog.  If the new file cannot be read the current catalog is kept.
+	 * Calling this method while the file is already watched has no effect.
+	 * @throws IllegalArgumentException if the file cannot be watched
+	 */
+	public synchronized void startCatalogWatch() {
+		if (catalogWatcher != null) {
+			return;
+		}
+		
+		Path file = Paths.get(fileName).toAbsolutePath();
+		try {
+			WatchService watcher = file.getFileSystem().newWatchService();
+			file.getParent().register(watcher, StandardWatchEventKinds.ENTRY_CREATE,
+					StandardWatchEventKinds.ENTRY_MODIFY);
+			catalogWatcher = watcher;
+			Thread thread = new Thread(() -> watchCatalog(watcher, file.getFileName()), "Catalog watcher");
+			thread.setDaemon(true);
+			thread.start();
+		}
+		catch (IOException e) {
+			throw new IllegalArgumentException("Cannot watch file.");
+		}
+	}
+
+	
+	/**
+	 * Stops watching the course records file.  Calling this method while the file is not
+	 * watched has no effect.
+	 */
+	public synchronized void stopCatalogWatch() {
+		if (catalogWatcher != null) {
+			try {
+				catalogWatcher.close();
+			}
+			catch (IOException e) {
+				//the watcher is discarded either way
+			}
+			catalogWatcher = null;
+		}
+	}
+
+	
+	/**
+	 * Waits for changes to the course records file and reloads the catalog after each one
+	 * until the watch service is closed.
+	 * @param watcher watch service registered on the directory of the file
+	 * @param name name of the file within its directory
+	 */
+	private void watchCatalog(WatchService watcher, Path name) {
+		try {
+			while (true) {
+				boolean changed = isCatalogChange(watcher.take(), name);
+				
+				//Wait for the file to stop changing before reading it
+				WatchKey key = watcher.poll(RELOAD_DELAY, TimeUnit.MILLISECONDS);
+				while (key != null) {
+					changed |= isCatalogChange(key, name);
+					key = watcher.poll(RELOAD_DELAY, TimeUnit.MILLISECONDS);
+				}
+				
+				if (changed) {
+					try {
+						reloadCatalog();
+					}
+					catch (IllegalArgumentException e) {
+						//keep the current catalog until the file can be read
+					}
+				}
+			}
+		}
+		catch (InterruptedException | ClosedWatchServiceException e) {
+			//watching has stopped
+		}
+	}
+
+	
+	/**
+	 * Checks if any of the events of a watch key are for the course records file, and
+	 * resets the key so that it reports later events.
+	 * @param key signalled watch key
+	 * @param name name of the file within its directory
+	 * @return true if the file was created or modified
+	 */
+	private static boolean isCatalogChange(WatchKey key, Path name) {
+		boolean changed = false;
+		for (WatchEvent<?> event : key.pollEvents()) {
+			if (name.equals(event.context())) {
+				changed = true;
+			}
+		}
+		key.reset();
+		return changed;
+	}
+
+	
+	/**
+	 * Retrieves the report of the last catalog load, including the lines of any
+	 * duplicate course records that were dropped.
+	 * @return the catalog load report
+	 */
+	public CourseLoadReport getCatalogLoadReport() {
+		return courseCatalog.getLoadReport();
 	}
 
 	
@@ -60,15 +262,7 @@ public class WolfScheduler {
 	 * 			null
 	 */
 	public Course getCourseFromCatalog(String name, String section) {
-		
-		for (int i = 0; i < courseCatalog.size(); i++) {
-			Course c = courseCatalog.get(i);
-			if (c.getName().equals(name) && c.getSection().equals(section)) {
-				return c;
-			}
-		}
-		return null;
-		
+		return courseCatalog.getCourse(name, section);
 	}
 
 	
@@ -85,28 +279,97 @@ public class WolfScheduler {
 		
 		Course courseAdded =  getCourseFromCatalog(name, section);
 		
-		for (int i = 0; i < scheduleCatalog.size(); i++) {
-			if (scheduleCatalog.get(i).isDuplicate(courseAdded)) {
-				throw new IllegalArgumentException("You are already enrolled in " + courseAdded.getName());
-			}
-			
-			try {
-				courseAdded.checkConflict(scheduleCatalog.get(i));
-			}
-			catch (ConflictException e) {
-				throw new IllegalArgumentException("The course cannot be added due to a conflict.");
-			}
-		}
-		
 		if (courseAdded == null) {
 			return false;
 		}
 		
+		if (scheduleIndex.findDuplicate(courseAdded) != null) {
+			throw new IllegalArgumentException("You are already enrolled in " + courseAdded.getName());
+		}
+		if (scheduleIndex.findConflict(courseAdded) != null) {
+			throw new IllegalArgumentException("The course cannot be added due to a conflict.");
+		}
+		
 		scheduleCatalog.add(courseAdded);
+		scheduleIndex.add(courseAdded);
+		if (blockMask != null) {
+			blockMask.add(courseAdded);
+		}
 		return true;
 	}
 	
 	
+	/**
+	 * Swaps a scheduled course to another section in one step.  The new section is checked
+	 * for conflicts against the schedule without the section being dropped, and the schedule
+	 * only changes if the new section can be added, so the old section is never lost.  The
+	 * new section takes the old section's place in the schedule.
+	 * 
+	 * @param name  string for the name of the course
+	 * @param fromSection string for the scheduled section
+	 * @param toSection string for the section to change to
+	 * @return false - if either section is not in the catalog or the course is not scheduled in
+	 * 			fromSection, otherwise true
+	 * @throws IllegalArgumentException if the new section conflicts with another scheduled activity
+	 */
+	public boolean swapSection(String name, String fromSection, String toSection) {
+		Course from = getCourseFromCatalog(name, fromSection);
+		Course to = getCourseFromCatalog(name, toSection);
+		if (from == null || to == null) {
+			return false;
+		}
+		
+		Activity scheduled = scheduleIndex.findDuplicate(from);
+		if (scheduled == null || !((Course) scheduled).getSection().equals(fromSection)) {
+			return false;
+		}
+		if (scheduleIndex.findConflict(to, scheduled) != null) {
+			throw new IllegalArgumentException("The course cannot be added due to a conflict.");
+		}
+		
+		scheduleCatalog.set(scheduleCatalog.indexOf(scheduled), to);
+		scheduleIndex.remove(scheduled);
+		scheduleIndex.add(to);
+		if (blockMask != null) {
+			blockMask.remove(scheduled);
+			blockMask.add(to);
+		}
+		return true;
+	}
+
+	
+	/**
+	 * Retrieves every scheduled activity that a catalog course conflicts with, so that the
+	 * reason addCourse failed can be explained in full.  Each row holds the short display of
+	 * the scheduled activity followed by the first day they share and the time both meet.
+	 * @param name  string for the name of the course
+	 * @param section string for the section of the course
+	 * @return A 2D array of the conflicting activities, empty if there are none or the course
+	 * 			is not in the catalog
+	 */
+	public String[][] getCourseConflicts(String name, String section) {
+		Course course = getCourseFromCatalog(name, section);
+		if (course == null) {
+			return new String[0][5];
+		}
+		
+		List<Activity> conflicts = scheduleIndex.findConflicts(course);
+		ConflictResult result = new ConflictResult();
+		String[][] report = new String [conflicts.size()][5];
+		for (int i = 0; i < conflicts.size(); i++) {
+			Activity a = conflicts.get(i);
+			course.conflictsWith(a, result);
+			String[] display = a.getShortDisplayArray();
+			report[i][0] = display[0];
+			report[i][1] = display[1];
+			report[i][2] = display[2];
+			report[i][3] = display[3];
+			report[i][4] = result.getOverlapString();
+		}
+		return report;
+	}
+
+	
 	/**
 	 * Adds an Event to the schedule catalog if it is a valid event.
 	 * 
@@ -120,23 +383,41 @@ public class WolfScheduler {
 	 * @throws IllegalArgumentException the user is already enrolled in the course or there is a conflict
 	 */
 	public void addEvent(String title, String meetingDays, int startTime, int endTime, int weeklyRepeat, String details) {
+		addEvent(title, meetingDays, startTime, endTime, weeklyRepeat, 1, details);
+	}
+
+	
+	/**
+	 * Adds an Event that starts in a later week of the term to the schedule catalog if it is
+	 * a valid event.  It only conflicts with activities that meet in one of its weeks.
+	 * 
+	 * @param title  		string for the title of the event
+	 * @param meetingDays 	string for the meetingDays of the event
+	 * @param startTime 	int value for the startTime of the event
+	 * @param endTime 		int value for the endTime of the event
+	 * @param weeklyRepeat 	int value for the weeklyRepeat of the event
+	 * @param startWeek 	int value for the first week of the term the event happens in
+	 * @param details 		string for the details of the event
+	 * 
+	 * @throws IllegalArgumentException the user is already enrolled in the course or there is a conflict
+	 */
+	public void addEvent(String title, String meetingDays, int startTime, int endTime, int weeklyRepeat, int startWeek,
+			String details) {
 		
-		Event eventAdded = new Event(title, meetingDays, startTime, endTime, weeklyRepeat, details);
+		Event eventAdded = new Event(title, meetingDays, startTime, endTime, weeklyRepeat, startWeek, details);
 		
-		for (int i = 0; i < scheduleCatalog.size(); i++) {
-			if (scheduleCatalog.get(i).isDuplicate(eventAdded) || eventAdded == null) {
-				throw new IllegalArgumentException("You have already created an event called " + eventAdded.getTitle());
-			}
-				
-			try {
-				eventAdded.checkConflict(scheduleCatalog.get(i));
-			}
-			catch (ConflictException e) {
-				throw new IllegalArgumentException("The event cannot be added due to a conflict.");
-			}
+		if (scheduleIndex.findDuplicate(eventAdded) != null) {
+			throw new IllegalArgumentException("You have already created an event called " + eventAdded.getTitle());
+		}
+		if (scheduleIndex.findConflict(eventAdded) != null) {
+			throw new IllegalArgumentException("The event cannot be added due to a conflict.");
 		}
 		
 		scheduleCatalog.add(eventAdded);
+		scheduleIndex.add(eventAdded);
+		if (blockMask != null) {
+			blockMask.add(eventAdded);
+		}
 	}
 
 	
@@ -152,7 +433,11 @@ public class WolfScheduler {
 		
 		if(scheduleCatalog.size() > idx)
 		{
-			scheduleCatalog.remove(idx);
+			Activity removed = scheduleCatalog.remove(idx);
+			scheduleIndex.remove(removed);
+			if (blockMask != null) {
+				blockMask.remove(removed);
+			}
 			return true;
 		}
 		return false;
@@ -165,7 +450,11 @@ public class WolfScheduler {
 	public void resetSchedule() {
 		ArrayList<Activity> reset = new ArrayList<Activity>();
 		scheduleCatalog = reset;
-		
+		scheduleIndex.clear();
+		if (blockMask != null) {
+			blockMask.clear();
+		}
+
 	}
 
 	
@@ -174,10 +463,12 @@ public class WolfScheduler {
 	 * @return A 2D array of the course catalog
 	 */
 	public String[][] getCourseCatalog() {
-		String[][] catalog = new String [courseCatalog.size()][4];
+		//Read the catalog once so a reload cannot change it part way through
+		CourseCatalog courses = courseCatalog;
+		String[][] catalog = new String [courses.size()][4];
 		
-		for (int i = 0; i < courseCatalog.size(); i++) {
-			Activity a = courseCatalog.get(i);
+		for (int i = 0; i < courses.size(); i++) {
+			Activity a = courses.get(i);
 			catalog[i][0] = a.getShortDisplayArray()[0];
 			catalog[i][1] = a.getShortDisplayArray()[1];
 			catalog[i][2] = a.getShortDisplayArray()[2];
@@ -188,6 +479,117 @@ public class WolfScheduler {
 	}
 
 	
+	/**
+	 * Retrieves a 2D array of the catalog courses that can still be added to the schedule,
+	 * leaving out any course that conflicts with or is a duplicate of a scheduled activity.
+	 * The mask of blocked courses is built the first time it is needed, or when the catalog
+	 * has been reloaded, and is then updated as activities are added and removed.
+	 * @return A 2D array of the addable courses in the same layout as getCourseCatalog
+	 */
+	public String[][] getAddableCourseCatalog() {
+		CourseCatalog courses = courseCatalog;
+		if (blockMask == null || blockMask.getCatalog() != courses) {
+			blockMask = new CatalogBlockMask(courses, scheduleCatalog);
+		}
+		
+		ArrayList<String[]> addable = new ArrayList<String[]>();
+		for (int i = 0; i < courses.size(); i++) {
+			if (blockMask.isAddable(i)) {
+				addable.add(courses.get(i).getShortDisplayArray());
+			}
+		}
+		return addable.toArray(new String[addable.size()][]);
+	}
+
+	
+	/**
+	 * Retrieves a 2D array of the sections of one course that do not conflict with a
+	 * section of another, using the catalog's conflict graph.
+	 * @param name name of the course whose section is fixed
+	 * @param section the fixed section
+	 * @param otherName name of the course whose sections are checked
+	 * @return A 2D array of the compatible sections in the same layout as getCourseCatalog
+	 */
+	public String[][] getCompatibleSections(String name, String section, String otherName) {
+		List<Course> sections = courseCatalog.getCompatibleSections(name, section, otherName);
+		String[][] compatible = new String [sections.size()][4];
+		
+		for (int i = 0; i < sections.size(); i++) {
+			compatible[i] = sections.get(i).getShortDisplayArray();
+		}
+		
+		return compatible;
+	}
+
+
+	/**
+	 * Finds every conflict free schedule with one section of each of the given Courses from the
+	 * catalog.  The Courses already in the schedule are not taken into account.
+	 * @param names names of the Courses to schedule
+	 * @return array of schedules, each holding the short display array of one section of each
+	 * Course in the order the names were given
+	 * @throws IllegalArgumentException if a name is given more than once
+	 */
+	public String[][][] generateSchedules(String[] names) {
+		ScheduleGenerator generator = new ScheduleGenerator(courseCatalog, Arrays.asList(names));
+		return getScheduleDisplay(generator, generator.generateParallel());
+	}
+
+
+	/**
+	 * Finds the first conflict free schedules with one section of each of the given Courses
+	 * from the catalog, stopping the search once enough have been found.
+	 * @param names names of the Courses to schedule
+	 * @param limit largest number of schedules to return
+	 * @return array of schedules in the same form and order as generateSchedules(names)
+	 * @throws IllegalArgumentException if a name is given more than once or the limit is negative
+	 */
+	public String[][][] generateSchedules(String[] names, int limit) {
+		if (limit < 0) {
+			throw new IllegalArgumentException("Invalid limit");
+		}
+		ScheduleGenerator generator = new ScheduleGenerator(courseCatalog, Arrays.asList(names));
+		return getScheduleDisplay(generator, generator.stream().limit(limit).collect(Collectors.toList()));
+	}
+
+
+	/**
+	 * Finds the best conflict free schedules with one section of each of the given Courses
+	 * from the catalog, ranked by the given scorer.
+	 * @param names  names of the Courses to schedule
+	 * @param scorer scorer to rank the schedules with, lower first
+	 * @param k      largest number of schedules to return
+	 * @return array of up to k schedules, best first, in the same form as generateSchedules(names)
+	 * @throws IllegalArgumentException if a name is given more than once, the scorer is null,
+	 * or k is negative
+	 */
+	public String[][][] generateBestSchedules(String[] names, ScheduleScorer scorer, int k) {
+		ScheduleGenerator generator = new ScheduleGenerator(courseCatalog, Arrays.asList(names));
+		return getScheduleDisplay(generator, generator.generateBest(scorer, k));
+	}
+
+
+	/**
+	 * Converts schedules of catalog positions into short display arrays.
+	 * @param generator generator that found the schedules
+	 * @param schedules schedules of catalog positions
+	 * @return array of schedules, each holding the short display array of each section
+	 */
+	private String[][][] getScheduleDisplay(ScheduleGenerator generator, List<int[]> schedules) {
+		String[][][] generated = new String [schedules.size()][][];
+		
+		for (int i = 0; i < schedules.size(); i++) {
+			List<Course> courses = generator.getCourses(schedules.get(i));
+			generated[i] = new String [courses.size()][];
+			for (int j = 0; j < courses.size(); j++) {
+				generated[i][j] = courses.get(j).getShortDisplayArray();
+			}
+		}
+		
+		return generated;
+	}
+
+	
 	/**
 	 * Retrieves a 2D array of the scheduled activities
 	 * @return A 2D array of the scheduled activities
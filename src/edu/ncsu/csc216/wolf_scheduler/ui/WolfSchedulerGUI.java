@@ -154,10 +154,14 @@ public class WolfSchedulerGUI extends JFrame implements ActionListener {
 		private JButton btnAddCourse;
 		/** Button for removing the selected Course from the schedule */
 		private JButton btnRemoveCourse;
+		/** Button for changing a scheduled Course to the section selected in the catalog */
+		private JButton btnSwapSection;
 		/** Button for resetting the schedule */
 		private JButton btnReset;
 		/** Button for displaying the final schedule */
 		private JButton btnDisplay;
+		/** Check box for only showing the catalog courses that can be added */
+		private JCheckBox cbAddableOnly;
 		/** JTable for displaying the catalog of Courses */
 		private JTable tableCatalog;
 		/** JTable for displaying the schdule of Courses */
@@ -210,6 +214,8 @@ public class WolfSchedulerGUI extends JFrame implements ActionListener {
 		private JLabel lblEventEndTime = new JLabel("Event End Time: ");
 		/** Label for weekly repeat */
 		private JLabel lblEventWeeklyRepeat = new JLabel("Event Weekly Repeat: ");
+		/** Label for Event start week */
+		private JLabel lblEventStartWeek = new JLabel("Start Week: ");
 		/** Label for event details */
 		private JLabel lblEventDetails = new JLabel("Event Details: ");
 		/** Text field for event title */
@@ -242,6 +248,8 @@ public class WolfSchedulerGUI extends JFrame implements ActionListener {
 		private JComboBox<String> comboEndPeriod;
 		/** Drop down for repeat */
 		private JComboBox<Integer> comboWeeklyRepeat;
+		/** Combo box for Event start week */
+		private JComboBox<Integer> comboStartWeek;
 		/** Text box for details */
 		private JTextField txtDetails;
 		/** Button for adding event*/
@@ -261,20 +269,25 @@ public class WolfSchedulerGUI extends JFrame implements ActionListener {
 			btnAddCourse.addActionListener(this);
 			btnRemoveCourse = new JButton("Remove Activity");
 			btnRemoveCourse.addActionListener(this);
+			btnSwapSection = new JButton("Swap Section");
+			btnSwapSection.addActionListener(this);
 			btnReset = new JButton("Reset Schedule");
 			btnReset.addActionListener(this);
 			btnDisplay = new JButton("Display Final Schedule");
 			btnDisplay.addActionListener(this);
+			cbAddableOnly = new JCheckBox("Only show courses that can be added");
+			cbAddableOnly.addActionListener(this);
 			lblScheduleTitle = new JLabel("Schedule Title: ");
 			txtScheduleTitle = new JTextField(scheduler.getTitle(), 20); 
 			btnSetScheduleTitle = new JButton("Set Title");
 			btnSetScheduleTitle.addActionListener(this);
 			
 			JPanel pnlActions = new JPanel();
-			pnlActions.setLayout(new GridLayout(3, 1));
+			pnlActions.setLayout(new GridLayout(4, 1));
 			JPanel pnlAddRemove = new JPanel();
-			pnlAddRemove.setLayout(new GridLayout(1, 2));
+			pnlAddRemove.setLayout(new GridLayout(1, 3));
 			pnlAddRemove.add(btnAddCourse);
+			pnlAddRemove.add(btnSwapSection);
 			pnlAddRemove.add(btnRemoveCourse);
 			JPanel pnlResetDisplay = new JPanel();
 			pnlResetDisplay.setLayout(new GridLayout(1, 2));
@@ -288,6 +301,7 @@ public class WolfSchedulerGUI extends JFrame implements ActionListener {
 			pnlActions.add(pnlAddRemove);
 			pnlActions.add(pnlResetDisplay);
 			pnlActions.add(pnlScheduleTitle);
+			pnlActions.add(cbAddableOnly);
 			
 			Border lowerEtched = BorderFactory.createEtchedBorder(EtchedBorder.LOWERED);
 			TitledBorder borderActions = BorderFactory.createTitledBorder(lowerEtched, "Actions");
@@ -385,17 +399,24 @@ public class WolfSchedulerGUI extends JFrame implements ActionListener {
 			pnlAddEvent = new JPanel();
 			pnlAddEvent.setLayout(new GridLayout(4, 1));
 			
-			JPanel pnlEventTitle = new JPanel(new GridLayout(1, 4));
+			JPanel pnlEventTitle = new JPanel(new GridLayout(1, 6));
 			txtEventTitle = new JTextField();
 			comboWeeklyRepeat = new JComboBox<Integer>();
 			comboWeeklyRepeat.addItem(Integer.valueOf(1));
 			comboWeeklyRepeat.addItem(Integer.valueOf(2));
 			comboWeeklyRepeat.addItem(Integer.valueOf(3));
 			comboWeeklyRepeat.addItem(Integer.valueOf(4));
+			comboStartWeek = new JComboBox<Integer>();
+			comboStartWeek.addItem(Integer.valueOf(1));
+			comboStartWeek.addItem(Integer.valueOf(2));
+			comboStartWeek.addItem(Integer.valueOf(3));
+			comboStartWeek.addItem(Integer.valueOf(4));
 			pnlEventTitle.add(lblEventTitle);
 			pnlEventTitle.add(txtEventTitle);
 			pnlEventTitle.add(lblEventWeeklyRepeat);
 			pnlEventTitle.add(comboWeeklyRepeat);
+			pnlEventTitle.add(lblEventStartWeek);
+			pnlEventTitle.add(comboStartWeek);
 			
 			JPanel pnlDays = new JPanel(new GridLayout(1, 15));
 			pnlDays.add(lblEventMeetingDays);
@@ -534,10 +555,40 @@ public class WolfSchedulerGUI extends JFrame implements ActionListener {
 				if (row == -1) {
 					JOptionPane.showMessageDialog(WolfSchedulerGUI.this, "No course selected in the catalog.");
 				} else {
+					String name = tableCatalog.getValueAt(row, 0).toString();
+					String section = tableCatalog.getValueAt(row, 1).toString();
 					try {
-						if (!scheduler.addCourse(tableCatalog.getValueAt(row, 0).toString(), tableCatalog.getValueAt(row, 1).toString())) {
+						if (!scheduler.addCourse(name, section)) {
 							JOptionPane.showMessageDialog(WolfSchedulerGUI.this, "Course doesn't exist.");
 						}
+					} catch (IllegalArgumentException iae) {
+						String message = iae.getMessage();
+						String [][] conflicts = scheduler.getCourseConflicts(name, section);
+						for (int i = 0; i < conflicts.length; i++) {
+							String activity = conflicts[i][0].isEmpty() ? conflicts[i][2] : conflicts[i][0] + "-" + conflicts[i][1];
+							message += "\n" + activity + " (" + conflicts[i][3] + ") overlaps " + conflicts[i][4];
+						}
+						JOptionPane.showMessageDialog(WolfSchedulerGUI.this, message);
+					}
+				}
+				updateTables();
+			} else if (e.getSource() == btnSwapSection) {
+				int row = tableCatalog.getSelectedRow();
+				if (row == -1) {
+					JOptionPane.showMessageDialog(WolfSchedulerGUI.this, "No course selected in the catalog.");
+				} else {
+					String name = tableCatalog.getValueAt(row, 0).toString();
+					String section = tableCatalog.getValueAt(row, 1).toString();
+					String fromSection = null;
+					for (int i = 0; i < scheduleTableModel.getRowCount(); i++) {
+						if (name.equals(scheduleTableModel.getValueAt(i, 0))) {
+							fromSection = scheduleTableModel.getValueAt(i, 1).toString();
+						}
+					}
+					try {
+						if (fromSection == null || !scheduler.swapSection(name, fromSection, section)) {
+							JOptionPane.showMessageDialog(WolfSchedulerGUI.this, "You are not enrolled in " + name);
+						}
 					} catch (IllegalArgumentException iae) {
 						JOptionPane.showMessageDialog(WolfSchedulerGUI.this, iae.getMessage());
 					}
@@ -554,6 +605,8 @@ public class WolfSchedulerGUI extends JFrame implements ActionListener {
 			} else if (e.getSource() == btnReset) {
 				scheduler.resetSchedule();
 				updateTables();
+			} else if (e.getSource() == cbAddableOnly) {
+				updateTables();
 			} else if (e.getSource() == btnDisplay) {
 				cardLayout.show(panel, SCHEDULE_PANEL);
 				pnlSchedule.updateFinalizedTable();
@@ -645,7 +698,15 @@ public class WolfSchedulerGUI extends JFrame implements ActionListener {
 					}
 					eventWeeklyRepeat = comboWeeklyRepeat.getItemAt(weeklyRepeatIdx);
 					
-					scheduler.addEvent(txtEventTitle.getText(), eventMeetingDays, eventStartTime, eventEndTime, eventWeeklyRepeat, txtDetails.getText());
+					int startWeekIdx = comboStartWeek.getSelectedIndex();
+					if (startWeekIdx == -1) {
+						JOptionPane.showMessageDialog(WolfSchedulerGUI.this, "The start week is invalid.");
+						return;
+					}
+					int eventStartWeek = comboStartWeek.getItemAt(startWeekIdx);
+					
+					scheduler.addEvent(txtEventTitle.getText(), eventMeetingDays, eventStartTime, eventEndTime, eventWeeklyRepeat,
+							eventStartWeek, txtDetails.getText());
 					
 					resetEvent();
 					updateTables();
@@ -668,6 +729,7 @@ public class WolfSchedulerGUI extends JFrame implements ActionListener {
 		private void resetEvent() {
 			txtEventTitle.setText("");
 			comboWeeklyRepeat.setSelectedIndex(0);
+			comboStartWeek.setSelectedIndex(0);
 			cbSunday.setSelected(false);
 			cbMonday.setSelected(false);
 			cbTuesday.setSelected(false);
@@ -787,11 +849,14 @@ public class WolfSchedulerGUI extends JFrame implements ActionListener {
 			 * Updates the given model with {@link Course} information from the {@link WolfScheduler}.
 			 */
 			private void updateData() {
-				if (catalog) {
+				if (catalog && cbAddableOnly.isSelected()) {
+					data = scheduler.getAddableCourseCatalog();
+				} else if (catalog) {
 					data = scheduler.getCourseCatalog();
 				} else {
 					data = scheduler.getScheduledActivities();
 				}
+				fireTableDataChanged();
 			}
 		}
 	}
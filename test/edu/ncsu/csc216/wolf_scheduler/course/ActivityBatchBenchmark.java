@@ -0,0 +1,79 @@
+/**
+ * 
+ */
+package edu.ncsu.csc216.wolf_scheduler.course;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ * Compares ActivityBatch with checking each pair through Activity.checkConflict and
+ * Activity.conflictsWith.  Run it as a plain Java application; it is not a JUnit test.
+ * 
+ * @author Bilal Mohamad
+ */
+public class ActivityBatchBenchmark {
+
+	/** Number of Activities in the batch */
+	private static final int ACTIVITIES = 100000;
+	/** Number of candidates checked in each round */
+	private static final int CANDIDATES = 100;
+	/** Number of rounds; the first few warm up the JIT */
+	private static final int ROUNDS = 10;
+
+	/**
+	 * Runs the benchmark and prints the time per round of each approach.
+	 * 
+	 * @param args not used
+	 */
+	public static void main(String[] args) {
+		Random random = new Random(216);
+		ArrayList<Activity> activities = new ArrayList<Activity>();
+		for (int i = 0; i < ACTIVITIES; i++) {
+			activities.add(ActivityBatchTest.randomEvent(random, i));
+		}
+		ArrayList<Activity> candidates = new ArrayList<Activity>();
+		for (int i = 0; i < CANDIDATES; i++) {
+			candidates.add(ActivityBatchTest.randomEvent(random, i));
+		}
+		ActivityBatch batch = new ActivityBatch(activities);
+
+		for (int round = 0; round < ROUNDS; round++) {
+			long count = 0;
+			long time = System.nanoTime();
+			for (int c = 0; c < CANDIDATES; c++) {
+				for (int i = 0; i < ACTIVITIES; i++) {
+					try {
+						candidates.get(c).checkConflict(activities.get(i));
+					}
+					catch (ConflictException e) {
+						count++;
+					}
+				}
+			}
+			long checkConflict = System.nanoTime() - time;
+
+			time = System.nanoTime();
+			for (int c = 0; c < CANDIDATES; c++) {
+				for (int i = 0; i < ACTIVITIES; i++) {
+					if (candidates.get(c).conflictsWith(activities.get(i), null)) {
+						count--;
+					}
+				}
+			}
+			long conflictsWith = System.nanoTime() - time;
+
+			time = System.nanoTime();
+			for (int c = 0; c < CANDIDATES; c++) {
+				BitSet conflicts = batch.findConflicts(candidates.get(c));
+				count += conflicts.cardinality();
+			}
+			long batched = System.nanoTime() - time;
+
+			System.out.printf("round %d: checkConflict %d ms, conflictsWith %d ms, ActivityBatch %d ms (%d)%n",
+					round, checkConflict / 1000000, conflictsWith / 1000000, batched / 1000000, count);
+		}
+	}
+
+}
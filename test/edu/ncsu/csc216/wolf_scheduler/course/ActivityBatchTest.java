@@ -0,0 +1,93 @@
+/**
+ * 
+ */
+package edu.ncsu.csc216.wolf_scheduler.course;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests the ActivityBatch class.
+ * 
+ * @author Bilal Mohamad
+ */
+public class ActivityBatchTest {
+
+	/**
+	 * Tests ActivityBatch.findConflicts() with one candidate.
+	 */
+	@Test
+	public void testFindConflicts() {
+		ArrayList<Course> courses = new ArrayList<Course>();
+		courses.add(new Course("CSC116", "Intro to Programming - Java", "001", 3, "jdyoung2", "MW", 910, 1100));
+		courses.add(new Course("CSC116", "Intro to Programming - Java", "002", 3, "spbalik", "MW", 1120, 1310));
+		courses.add(new Course("CSC216", "Programming Concepts - Java", "601", 4, "jep", "A"));
+		courses.add(new Course("CSC226", "Discrete Mathematics", "001", 3, "tmbarnes", "MWF", 935, 1025));
+		ActivityBatch batch = new ActivityBatch(courses);
+		assertEquals(4, batch.size());
+
+		BitSet conflicts = batch.findConflicts(new Event("Meeting", "W", 1025, 1120, 1, ""));
+		assertTrue(conflicts.get(0));
+		assertTrue(conflicts.get(1));
+		assertFalse(conflicts.get(2));
+		assertTrue(conflicts.get(3));
+		assertTrue(batch.findConflicts(new Event("Meeting", "TH", 1000, 1100, 1, "")).isEmpty());
+
+		try {
+			new ActivityBatch(null);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Activities cannot be null.", e.getMessage());
+		}
+	}
+
+	/**
+	 * Compares the batch with Activity.conflictsWith over random Activities.
+	 */
+	@Test
+	public void testRandomActivities() {
+		Random random = new Random(116);
+		ArrayList<Activity> activities = new ArrayList<Activity>();
+		for (int i = 0; i < 1000; i++) {
+			activities.add(randomEvent(random, i));
+		}
+		ActivityBatch batch = new ActivityBatch(activities);
+
+		ArrayList<Activity> candidates = new ArrayList<Activity>();
+		BitSet any = new BitSet();
+		for (int c = 0; c < 20; c++) {
+			Activity candidate = randomEvent(random, c);
+			candidates.add(candidate);
+			BitSet conflicts = batch.findConflicts(candidate);
+			for (int i = 0; i < activities.size(); i++) {
+				assertEquals(candidate.conflictsWith(activities.get(i), null), conflicts.get(i));
+			}
+			any.or(conflicts);
+		}
+		assertEquals(any, batch.findConflicts(candidates));
+	}
+
+	/**
+	 * Creates an Event with random meeting days and times.
+	 * 
+	 * @param random source of random values
+	 * @param i      number used in the title
+	 * @return the Event
+	 */
+	static Event randomEvent(Random random, int i) {
+		String[] days = {"U", "M", "T", "W", "H", "F", "S", "MW", "TH", "MWF", "SU", "MTWHF"};
+		int start = random.nextInt(24) * 100 + random.nextInt(4) * 15;
+		int end = Math.min(2359, start + random.nextInt(300));
+		if (end % 100 > 59) {
+			end = end - end % 100 + 59;
+		}
+		return new Event("Event " + i, days[random.nextInt(days.length)], start, end,
+				1 + random.nextInt(4), 1 + random.nextInt(4), "");
+	}
+
+}
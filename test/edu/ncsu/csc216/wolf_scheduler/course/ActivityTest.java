@@ -8,7 +8,7 @@ import static org.junit.Assert.*;
 import org.junit.Test;
 
 /**
- * Test the checkConflict() method in the Activity class.
+ * Test the checkConflict() and conflictsWith() methods in the Activity class.
  * Other methods were tested in other tests such as EventTest and CourseTest
  * 
  * @author Bilal Mohamad
@@ -118,5 +118,88 @@ public class ActivityTest {
 	    catch (ConflictException e) {
 	        fail();
 	    }
+	    
+	    //Weekend Events only conflict on the same day
+	    Activity e1 = new Event("Hike", "SU", 800, 1000, 1, "Trail");
+	    Activity e2 = new Event("Brunch", "S", 930, 1030, 1, "Cafe");
+	    Activity e3 = new Event("Run", "MU", 1000, 1030, 1, "Track");
+	    try {
+	        e1.checkConflict(e2);
+	        fail();
+	    }
+	    catch (ConflictException e) {
+	        assertEquals("Schedule conflict.", e.getMessage());
+	    }
+	    try {
+	        e2.checkConflict(e3);
+	        e3.checkConflict(e2);
+	    }
+	    catch (ConflictException e) {
+	        fail();
+	    }
+	    try {
+	        //Ends in the same minute the other starts
+	        e3.checkConflict(e1);
+	        fail();
+	    }
+	    catch (ConflictException e) {
+	        assertEquals("Schedule conflict.", e.getMessage());
+	    }
+	}
+	
+	/**
+	 * Tests the conflictsWith() method
+	 */
+	@Test
+	public void testConflictsWith() {
+	    Activity a1 = new Course("CSC216", "Programming Concepts - Java", "001", 4, "sesmith5", "MWF", 1330, 1445);
+	    Activity a2 = new Course("CSC216", "Programming Concepts - Java", "002", 4, "sesmith5", "WF", 1400, 1515);
+	    ConflictResult result = new ConflictResult();
+	    
+	    assertTrue(a1.conflictsWith(a2, result));
+	    assertTrue(result.isConflict());
+	    assertEquals('W', result.getDay());
+	    assertEquals(1400, result.getOverlapStart());
+	    assertEquals(1445, result.getOverlapEnd());
+	    assertEquals("W 2:00PM-2:45PM", result.getOverlapString());
+	    assertTrue(a2.conflictsWith(a1, null));
+	    
+	    //The same result is reused and cleared
+	    a2.setMeetingDays("TH");
+	    assertFalse(a1.conflictsWith(a2, result));
+	    assertFalse(result.isConflict());
+	    assertEquals(0, result.getDay());
+	    assertEquals("", result.getOverlapString());
+	    
+	    a2.setMeetingDays("M");
+	    a2.setActivityTime(1445, 1500);
+	    assertTrue(a2.conflictsWith(a1, result));
+	    assertEquals('M', result.getDay());
+	    assertEquals(1445, result.getOverlapStart());
+	    assertEquals(1445, result.getOverlapEnd());
+	}
+
+	/**
+	 * Tests the minute and day mask encoding of an Activity
+	 */
+	@Test
+	public void testEncoding() {
+	    Activity a1 = new Course("CSC216", "Programming Concepts - Java", "001", 4, "sesmith5", "HT", 1330, 1445);
+	    assertEquals(810, a1.getStartMinutes());
+	    assertEquals(885, a1.getEndMinutes());
+	    assertEquals(1330, a1.getStartTime());
+	    assertEquals(1445, a1.getEndTime());
+	    assertEquals(0x14, a1.getMeetingDaysMask());
+	    //The meeting days are displayed as given
+	    assertEquals("HT 1:30PM-2:45PM", a1.getMeetingString());
+	    
+	    Activity a2 = new Course("CSC216", "Programming Concepts - Java", "601", 4, "jep", "A");
+	    assertEquals(0, a2.getMeetingDaysMask());
+	    assertEquals(0, a2.getStartMinutes());
+	    assertEquals("Arranged", a2.getMeetingString());
+	    
+	    a1.setActivityTime(0, 2359);
+	    assertEquals(1439, a1.getEndMinutes());
+	    assertEquals("HT 0:00AM-11:59PM", a1.getMeetingString());
 	}
 }
@@ -693,4 +693,26 @@ public class CourseTest {
 		assertEquals(s2, c2.toString());
 	}
 
+	/**
+	 * Tests that validate agrees with the constructor without throwing.
+	 */
+	@Test
+	public void testValidate() {
+		assertEquals(ValidationResult.VALID, Course.validate(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME));
+		assertEquals(ValidationResult.VALID, Course.validate(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, "A", 0, 0));
+		
+		assertEquals(ValidationResult.INVALID_TITLE, Course.validate(NAME, "", SECTION, CREDITS, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME));
+		assertEquals(ValidationResult.INVALID_TITLE, Course.validate(null, null, null, 0, null, null, 0, 0));
+		assertEquals(ValidationResult.INVALID_MEETING_DAYS, Course.validate(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, "MA", START_TIME, END_TIME));
+		assertEquals(ValidationResult.INVALID_MEETING_DAYS, Course.validate(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, "MS", START_TIME, END_TIME));
+		assertEquals(ValidationResult.INVALID_TIMES, Course.validate(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, "A", START_TIME, END_TIME));
+		assertEquals(ValidationResult.INVALID_TIMES, Course.validate(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, MEETING_DAYS, 1360, END_TIME));
+		assertEquals(ValidationResult.INVALID_TIMES, Course.validate(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, MEETING_DAYS, END_TIME, START_TIME));
+		assertEquals(ValidationResult.INVALID_NAME, Course.validate("CS", TITLE, SECTION, CREDITS, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME));
+		assertEquals(ValidationResult.INVALID_SECTION, Course.validate(NAME, TITLE, "0001", CREDITS, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME));
+		assertEquals(ValidationResult.INVALID_CREDITS, Course.validate(NAME, TITLE, SECTION, 6, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME));
+		assertEquals(ValidationResult.INVALID_INSTRUCTOR_ID, Course.validate(NAME, TITLE, SECTION, CREDITS, "", MEETING_DAYS, START_TIME, END_TIME));
+		assertEquals("Invalid instructor id", ValidationResult.INVALID_INSTRUCTOR_ID.getMessage());
+	}
+
 }
\ No newline at end of file
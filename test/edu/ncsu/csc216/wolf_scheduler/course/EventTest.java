@@ -265,6 +265,68 @@ public class EventTest {
 		assertEquals(EVENT_DETAILS, event.getEventDetails());
 	}
 
+	/**
+	 * Test Event.setStartWeek().
+	 */
+	@Test
+	public void testSetStartWeek() {
+		Event event = new Event(EVENT_TITLE, EVENT_MEETING_DAYS, EVENT_START_TIME, EVENT_END_TIME, 2, EVENT_DETAILS);
+		assertEquals(1, event.getStartWeek());
+		try {
+			event.setStartWeek(0);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Invalid start week", e.getMessage());
+			assertEquals(1, event.getStartWeek());
+		}
+		try {
+			new Event(EVENT_TITLE, EVENT_MEETING_DAYS, EVENT_START_TIME, EVENT_END_TIME, 2, 5, EVENT_DETAILS);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Invalid start week", e.getMessage());
+		}
+		
+		event.setStartWeek(2);
+		assertEquals(2, event.getStartWeek());
+		assertEquals("MTWHF 8:00AM-9:00AM (every 2 weeks from week 2)", event.getMeetingString());
+		assertEquals(EVENT_TITLE + "," + EVENT_MEETING_DAYS + "," + EVENT_START_TIME + "," + EVENT_END_TIME + ",2,"
+				+ EVENT_DETAILS, event.toString());
+	}
+	
+	/**
+	 * Test Event conflicts with repeat periods and start weeks.
+	 */
+	@Test
+	public void testConflictsWithWeeks() {
+		Event everyTwoOdd = new Event("A", "M", 1000, 1100, 2, 1, "");
+		Event everyTwoEven = new Event("B", "M", 1000, 1100, 2, 2, "");
+		Event everyFourFromTwo = new Event("C", "M", 1000, 1100, 4, 2, "");
+		Event everyFourFromThree = new Event("D", "M", 1000, 1100, 4, 3, "");
+		Event everyThree = new Event("E", "M", 1000, 1100, 3, 3, "");
+		Event weekly = new Event("F", "M", 1030, 1130, 1, "");
+		
+		//Weeks 1, 3, 5, ... never meet in weeks 2, 4, 6, ...
+		assertFalse(everyTwoOdd.conflictsWith(everyTwoEven, null));
+		assertFalse(everyTwoOdd.conflictsWith(everyFourFromTwo, null));
+		assertTrue(everyTwoOdd.conflictsWith(everyFourFromThree, null));
+		assertTrue(everyTwoEven.conflictsWith(everyFourFromTwo, null));
+		//Every 3 weeks from week 3 meets in week 3 and week 6
+		assertTrue(everyThree.conflictsWith(everyTwoOdd, null));
+		assertTrue(everyThree.conflictsWith(everyTwoEven, null));
+		assertTrue(weekly.conflictsWith(everyFourFromThree, null));
+		
+		//Moving the start week changes the conflict
+		everyTwoEven.setStartWeek(3);
+		assertTrue(everyTwoOdd.conflictsWith(everyTwoEven, null));
+		everyTwoEven.setWeeklyRepeat(4);
+		assertFalse(everyTwoEven.conflictsWith(everyFourFromTwo, null));
+		try {
+			everyTwoOdd.checkConflict(everyFourFromTwo);
+		} catch (ConflictException e) {
+			fail();
+		}
+	}
+	
 	/**
 	 * Test.Event.setEventDetails().
 	 */
@@ -0,0 +1,108 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Tests the CourseLoadReport class.
+ *
+ * @author Bilal Mohamad
+ */
+public class CourseLoadReportTest {
+
+	/**
+	 * Tests recording duplicate lines in a CourseLoadReport.
+	 */
+	@Test
+	public void testAddDuplicate() {
+		CourseLoadReport report = new CourseLoadReport();
+		assertEquals(0, report.getDuplicateCount());
+		assertEquals(0, report.getDuplicateLines().length);
+		assertEquals("0 lines read, 0 duplicates dropped, 0 invalid records rejected", report.toString());
+
+		//Add enough lines to grow the array
+		for (int i = 1; i <= 20; i++) {
+			report.addDuplicate(i * 2);
+		}
+		report.setLinesRead(40);
+		assertEquals(40, report.getLinesRead());
+		assertEquals(20, report.getDuplicateCount());
+		int[] lines = report.getDuplicateLines();
+		assertEquals(20, lines.length);
+		assertEquals(2, lines[0]);
+		assertEquals(40, lines[19]);
+
+		//Changing the returned array doesn't change the report
+		lines[0] = 1;
+		assertEquals(2, report.getDuplicateLines()[0]);
+	}
+
+	/**
+	 * Tests CourseLoadReport.toString().
+	 */
+	@Test
+	public void testToString() {
+		CourseLoadReport report = new CourseLoadReport();
+		report.setLinesRead(9);
+		report.addDuplicate(4);
+		report.addDuplicate(7);
+		report.addRejection(2, "Invalid name");
+		assertEquals("9 lines read, 2 duplicates dropped at lines [4, 7], 1 invalid records rejected",
+				report.toString());
+	}
+
+	/**
+	 * Tests recording rejected lines in a CourseLoadReport.
+	 */
+	@Test
+	public void testAddRejection() {
+		CourseLoadReport report = new CourseLoadReport();
+		assertEquals(0, report.getRejectedCount());
+		for (int i = 1; i <= 20; i++) {
+			report.addRejection(i, i % 2 == 0 ? "Invalid name" : "Missing field");
+		}
+		assertEquals(20, report.getRejectedCount());
+		assertEquals(20, report.getRejectedLines().length);
+		assertEquals(20, report.getRejectedLines()[19]);
+		assertEquals("Missing field", report.getRejectionReasons()[0]);
+		assertEquals("Invalid name", report.getRejectionReasons()[19]);
+		assertEquals(0, report.getDuplicateCount());
+	}
+
+	/**
+	 * Tests that a report with a log limit keeps exact counts but only the first entries.
+	 */
+	@Test
+	public void testLogLimit() {
+		CourseLoadReport report = new CourseLoadReport(3);
+		assertEquals(3, report.getLogLimit());
+		assertEquals(Integer.MAX_VALUE, new CourseLoadReport().getLogLimit());
+		report.setLinesRead(1000);
+		for (int i = 1; i <= 500; i++) {
+			report.addDuplicate(2 * i);
+			report.addRejection(2 * i + 1, "Invalid name");
+		}
+		assertEquals(500, report.getDuplicateCount());
+		assertArrayEquals(new int[] {2, 4, 6}, report.getDuplicateLines());
+		assertEquals(500, report.getRejectedCount());
+		assertArrayEquals(new int[] {3, 5, 7}, report.getRejectedLines());
+		assertEquals(3, report.getRejectionReasons().length);
+		assertEquals("1000 lines read, 500 duplicates dropped at lines [2, 4, 6] and 497 more, 500 invalid records rejected",
+				report.toString());
+
+		CourseLoadReport counts = new CourseLoadReport(0);
+		counts.addDuplicate(1);
+		counts.addRejection(2, "Missing field");
+		assertEquals(1, counts.getDuplicateCount());
+		assertEquals(0, counts.getDuplicateLines().length);
+		assertEquals(1, counts.getRejectedCount());
+		assertEquals(0, counts.getRejectedLines().length);
+		try {
+			new CourseLoadReport(-1);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Invalid log limit", e.getMessage());
+		}
+	}
+}
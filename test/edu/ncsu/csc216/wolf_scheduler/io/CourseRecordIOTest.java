@@ -4,12 +4,18 @@ import static org.junit.Assert.*;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Scanner;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -77,6 +83,245 @@ public class CourseRecordIOTest {
 		}
 	}
 
+	/**
+	 * Tests that readCourseRecords() reports the dropped duplicate records.
+	 */
+	@Test
+	public void testReadCourseRecordsReport() {
+		CourseLoadReport report = new CourseLoadReport();
+		try {
+			ArrayList<Course> courses = CourseRecordIO.readCourseRecords(validTestFile, report);
+			assertEquals(8, courses.size());
+			assertEquals(9, report.getLinesRead());
+			assertEquals(1, report.getDuplicateCount());
+			assertArrayEquals(new int[] {4}, report.getDuplicateLines());
+			assertEquals(0, report.getRejectedCount());
+			assertEquals("spbalik", courses.get(1).getInstructorId());
+		} catch (FileNotFoundException e) {
+			fail("Unexpected error reading " + validTestFile);
+		}
+	}
+
+	/**
+	 * Tests readMappedCourseRecords() against the streaming reader.
+	 */
+	@Test
+	public void testReadMappedCourseRecords() {
+		try {
+			CourseLoadReport report = new CourseLoadReport();
+			ArrayList<Course> courses = CourseRecordIO.readMappedCourseRecords(validTestFile, report);
+			assertEquals(8, courses.size());
+			for (int i = 0; i < validCourses.length; i++) {
+				assertEquals(validCourses[i], courses.get(i).toString());
+			}
+			assertArrayEquals(new int[] {4}, report.getDuplicateLines());
+
+			//Small windows split the file between lines
+			report = new CourseLoadReport();
+			courses = CourseRecordIO.readMappedCourseRecords(validTestFile, report, 100, 0);
+			assertEquals(8, courses.size());
+			for (int i = 0; i < validCourses.length; i++) {
+				assertEquals(validCourses[i], courses.get(i).toString());
+			}
+			assertEquals(9, report.getLinesRead());
+
+			assertEquals(0, CourseRecordIO.readMappedCourseRecords(invalidTestFile, new CourseLoadReport()).size());
+		} catch (FileNotFoundException e) {
+			fail("Unexpected error reading " + validTestFile);
+		}
+
+		try {
+			CourseRecordIO.readMappedCourseRecords(validTestFile, new CourseLoadReport(), 20, 0);
+			fail();
+		} catch (FileNotFoundException e) {
+			fail("Unexpected error reading " + validTestFile);
+		} catch (UncheckedIOException e) {
+			assertEquals("Course record is longer than the map window", e.getCause().getMessage());
+		}
+
+		try {
+			CourseRecordIO.readMappedCourseRecords("test-files/no_such_file.txt", new CourseLoadReport());
+			fail();
+		} catch (FileNotFoundException e) {
+			//expected
+		}
+	}
+
+	/**
+	 * Tests readParallelCourseRecords() against the sequential reader.
+	 */
+	@Test
+	public void testReadParallelCourseRecords() throws IOException {
+		ArrayList<Course> courses = CourseRecordIO.readParallelCourseRecords(validTestFile, new CourseLoadReport());
+		assertEquals(8, courses.size());
+		for (int i = 0; i < validCourses.length; i++) {
+			assertEquals(validCourses[i], courses.get(i).toString());
+		}
+		assertEquals(0, CourseRecordIO.readParallelCourseRecords(invalidTestFile, new CourseLoadReport()).size());
+
+		//Build a file with many duplicates and invalid lines and parse it in tiny chunks
+		File file = File.createTempFile("course_records", ".txt");
+		try {
+			StringBuilder records = new StringBuilder();
+			for (int i = 0; i < 2000; i++) {
+				int section = i % 700;
+				records.append("CSC").append(100 + i % 7).append(",Title,")
+						.append(section / 100).append(section / 10 % 10).append(section % 10)
+						.append(",3,id").append(i).append(i % 11 == 0 ? ",MX" : ",MW").append(",800,850\n");
+			}
+			Files.write(file.toPath(), records.toString().getBytes(StandardCharsets.UTF_8));
+
+			CourseLoadReport sequentialReport = new CourseLoadReport();
+			ArrayList<Course> sequential = CourseRecordIO.readCourseRecords(file.getPath(), sequentialReport);
+			for (int chunk = 1; chunk <= 4096; chunk *= 8) {
+				CourseLoadReport parallelReport = new CourseLoadReport();
+				ArrayList<Course> parallel = CourseRecordIO.readMappedCourseRecords(file.getPath(), parallelReport, 5000, chunk);
+				assertEquals(sequential, parallel);
+				for (int i = 0; i < sequential.size(); i++) {
+					assertEquals(sequential.get(i).getInstructorId(), parallel.get(i).getInstructorId());
+				}
+				assertEquals(2000, parallelReport.getLinesRead());
+				assertArrayEquals(sequentialReport.getDuplicateLines(), parallelReport.getDuplicateLines());
+				assertArrayEquals(sequentialReport.getRejectedLines(), parallelReport.getRejectedLines());
+				assertArrayEquals(sequentialReport.getRejectionReasons(), parallelReport.getRejectionReasons());
+			}
+		} finally {
+			Files.delete(file.toPath());
+		}
+	}
+
+	/**
+	 * Tests that the streamed, mapped, and parallel readers split lines the same way for
+	 * files that end lines with a carriage return only, or with a mix of line endings.
+	 */
+	@Test
+	public void testReadLineEndings() throws IOException {
+		String[] endings = {"\r", "\r\n", "\n"};
+		for (int mixed = 0; mixed < 2; mixed++) {
+			File file = File.createTempFile("course_records", ".txt");
+			try {
+				StringBuilder records = new StringBuilder();
+				for (int i = 0; i < 300; i++) {
+					int section = i % 90;
+					records.append("CSC").append(100 + i % 3).append(",Title,")
+							.append(section / 100).append(section / 10 % 10).append(section % 10)
+							.append(",3,id").append(i).append(i % 13 == 0 ? ",MX" : ",MW").append(",800,850")
+							.append(mixed == 0 ? "\r" : endings[i % endings.length]);
+					if (i % 17 == 0) {
+						records.append("\r");
+					}
+				}
+				Files.write(file.toPath(), records.toString().getBytes(StandardCharsets.UTF_8));
+
+				CourseLoadReport streamedReport = new CourseLoadReport();
+				ArrayList<Course> streamed = CourseRecordIO.readCourseRecords(file.getPath(), streamedReport);
+				assertEquals(90, streamed.size());
+				assertEquals(318, streamedReport.getLinesRead());
+				for (int window = 64; window <= 1 << 16; window *= 16) {
+					for (int chunk = 0; chunk <= 4096; chunk = chunk == 0 ? 1 : chunk * 8) {
+						CourseLoadReport mappedReport = new CourseLoadReport();
+						ArrayList<Course> mapped = CourseRecordIO.readMappedCourseRecords(file.getPath(), mappedReport, window, chunk);
+						assertEquals(streamed, mapped);
+						assertEquals(streamedReport.getLinesRead(), mappedReport.getLinesRead());
+						assertArrayEquals(streamedReport.getDuplicateLines(), mappedReport.getDuplicateLines());
+						assertArrayEquals(streamedReport.getRejectedLines(), mappedReport.getRejectedLines());
+						assertArrayEquals(streamedReport.getRejectionReasons(), mappedReport.getRejectionReasons());
+					}
+				}
+			} finally {
+				Files.delete(file.toPath());
+			}
+		}
+	}
+
+	/**
+	 * Tests that both readers handle carriage returns and non-ASCII titles the same way.
+	 */
+	@Test
+	public void testReadMappedEncoding() throws IOException {
+		File file = File.createTempFile("course_records", ".txt");
+		try {
+			String records = "CSC116,Intro to Programming - Java,001,3,jdyoung2,MW,0910,1100\r\n"
+					+ "CSC216,Programmierung \u00fcber Java,001,4,sesmith5,TH,1330,1445\r\n"
+					+ "CSC216,Programming Concepts - Java,601,4,jep,A";
+			Files.write(file.toPath(), records.getBytes(StandardCharsets.UTF_8));
+
+			ArrayList<Course> streamed = CourseRecordIO.readCourseRecords(file.getPath());
+			ArrayList<Course> mapped = CourseRecordIO.readMappedCourseRecords(file.getPath(), new CourseLoadReport());
+			assertEquals(3, mapped.size());
+			assertEquals(streamed, mapped);
+			assertEquals("Programmierung \u00fcber Java", mapped.get(1).getTitle());
+			assertEquals("A", mapped.get(2).getMeetingDays());
+		} finally {
+			Files.delete(file.toPath());
+		}
+	}
+
+	/**
+	 * Tests streamCourseRecords().
+	 */
+	@Test
+	public void testStreamCourseRecords() {
+		try (Stream<Course> courses = CourseRecordIO.streamCourseRecords(validTestFile, true)) {
+			assertArrayEquals(validCourses, courses.map(Course::toString).toArray());
+		} catch (FileNotFoundException e) {
+			fail("Unexpected error reading " + validTestFile);
+		}
+
+		try (Stream<Course> courses = CourseRecordIO.streamCourseRecords(validTestFile, false)) {
+			assertEquals(4, courses.filter(c -> c.getName().equals("CSC116")).count());
+		} catch (FileNotFoundException e) {
+			fail("Unexpected error reading " + validTestFile);
+		}
+
+		try (Stream<Course> courses = CourseRecordIO.streamCourseRecords(validTestFile, true)) {
+			assertEquals("CSC216", courses.filter(c -> c.getCredits() == 4).findFirst().get().getName());
+		} catch (FileNotFoundException e) {
+			fail("Unexpected error reading " + validTestFile);
+		}
+	}
+
+	/**
+	 * Tests reading gzip compressed course records.
+	 * @throws IOException if the temporary file cannot be written
+	 */
+	@Test
+	public void testReadCompressedCourseRecords() throws IOException {
+		byte[] records = Files.readAllBytes(FileSystems.getDefault().getPath(validTestFile));
+		File file = File.createTempFile("course_records", ".txt.gz");
+		try {
+			//Two gzip members, as written by block compressors
+			try (OutputStream out = new FileOutputStream(file)) {
+				GZIPOutputStream first = new GZIPOutputStream(out);
+				first.write(records, 0, 100);
+				first.finish();
+				GZIPOutputStream second = new GZIPOutputStream(out);
+				second.write(records, 100, records.length - 100);
+				second.finish();
+			}
+			assertTrue(CourseRecordIO.isCompressed(file.getPath()));
+			assertFalse(CourseRecordIO.isCompressed(validTestFile));
+
+			CourseLoadReport report = new CourseLoadReport();
+			ArrayList<Course> courses = CourseRecordIO.readCourseRecords(file.getPath(), report);
+			assertEquals(8, courses.size());
+			for (int i = 0; i < validCourses.length; i++) {
+				assertEquals(validCourses[i], courses.get(i).toString());
+			}
+			assertArrayEquals(new int[] {4}, report.getDuplicateLines());
+
+			//Mapped and parallel loads fall back to streaming
+			assertEquals(courses, CourseRecordIO.readMappedCourseRecords(file.getPath(), new CourseLoadReport()));
+			assertEquals(courses, CourseRecordIO.readParallelCourseRecords(file.getPath(), new CourseLoadReport()));
+
+			try (Stream<Course> stream = CourseRecordIO.streamCourseRecords(file.getPath(), true)) {
+				assertEquals(8, stream.count());
+			}
+		} finally {
+			Files.delete(file.toPath());
+		}
+	}
+
 	/**
 	 * Tests readInvalidCourseRecords().
 	 */
@@ -86,6 +331,15 @@ public class CourseRecordIOTest {
 		try {
 			courses = CourseRecordIO.readCourseRecords(invalidTestFile);
 			assertEquals(0, courses.size());
+
+			CourseLoadReport report = new CourseLoadReport();
+			CourseRecordIO.readCourseRecords(invalidTestFile, report);
+			assertEquals(report.getLinesRead(), report.getRejectedCount());
+			assertEquals(1, report.getRejectedLines()[0]);
+			assertEquals("Invalid number", report.getRejectionReasons()[0]);
+			assertEquals("Missing field", report.getRejectionReasons()[4]);
+			assertEquals("Invalid name", report.getRejectionReasons()[8]);
+			assertEquals("Invalid times", report.getRejectionReasons()[report.getRejectedCount() - 1]);
 		} catch (FileNotFoundException e) {
 			fail("Unexpected FileNotFoundException");
 		}
@@ -0,0 +1,128 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests the CourseRecordIterator class.
+ *
+ * @author Bilal Mohamad
+ */
+public class CourseRecordIteratorTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+	/** Invalid course records */
+	private final String invalidTestFile = "test-files/invalid_course_records.txt";
+
+	/**
+	 * Tests iterating over a file with and without removing duplicates.
+	 * @throws IOException if the file cannot be read
+	 */
+	@Test
+	public void testIterate() throws IOException {
+		try (CourseRecordIterator it = new CourseRecordIterator(validTestFile, true)) {
+			int count = 0;
+			while (it.hasNext()) {
+				it.next();
+				count++;
+			}
+			assertEquals(8, count);
+			assertEquals(9, it.getReport().getLinesRead());
+			assertArrayEquals(new int[] {4}, it.getReport().getDuplicateLines());
+			try {
+				it.next();
+				fail();
+			} catch (NoSuchElementException e) {
+				assertFalse(it.hasNext());
+			}
+		}
+
+		try (CourseRecordIterator it = new CourseRecordIterator(validTestFile, false)) {
+			int count = 0;
+			Course fourth = null;
+			while (it.hasNext()) {
+				Course c = it.next();
+				count++;
+				if (count == 4) {
+					fourth = c;
+				}
+			}
+			assertEquals(9, count);
+			assertEquals("jtking", fourth.getInstructorId());
+			assertEquals(0, it.getReport().getDuplicateCount());
+		}
+
+		try (CourseRecordIterator it = new CourseRecordIterator(invalidTestFile, true)) {
+			assertFalse(it.hasNext());
+			assertEquals(it.getReport().getLinesRead(), it.getReport().getRejectedCount());
+		}
+	}
+
+	/**
+	 * Tests that an iterator can be stopped early and closed.
+	 * @throws IOException if the file cannot be read
+	 */
+	@Test
+	public void testClose() throws IOException {
+		CourseRecordIterator it = new CourseRecordIterator(validTestFile, true);
+		assertEquals("CSC116", it.next().getName());
+		assertEquals(1, it.getReport().getLinesRead());
+		it.close();
+		it.close();
+		assertFalse(it.hasNext());
+
+		try {
+			new CourseRecordIterator("test-files/no_such_file.txt", true);
+			fail();
+		} catch (FileNotFoundException e) {
+			//expected
+		}
+	}
+
+	/**
+	 * Tests that the report of a dirty file only logs the first LOG_LIMIT bad lines.
+	 * @throws IOException if the file cannot be read
+	 */
+	@Test
+	public void testReportLimit() throws IOException {
+		File file = File.createTempFile("course_records", ".txt");
+		try {
+			StringBuilder records = new StringBuilder();
+			for (int i = 0; i < 3000; i++) {
+				records.append(i % 2 == 0 ? "CSC116,Title,001,3,id,MW,800,850\n" : "CSC116,Title,001,3,id,MX,800,850\n");
+			}
+			Files.write(file.toPath(), records.toString().getBytes(StandardCharsets.UTF_8));
+
+			try (CourseRecordIterator it = new CourseRecordIterator(file.getPath(), true)) {
+				int count = 0;
+				while (it.hasNext()) {
+					it.next();
+					count++;
+				}
+				assertEquals(1, count);
+				CourseLoadReport report = it.getReport();
+				assertEquals(3000, report.getLinesRead());
+				assertEquals(1499, report.getDuplicateCount());
+				assertEquals(1500, report.getRejectedCount());
+				assertEquals(CourseRecordIterator.LOG_LIMIT, report.getDuplicateLines().length);
+				assertEquals(CourseRecordIterator.LOG_LIMIT, report.getRejectedLines().length);
+				assertEquals(3, report.getDuplicateLines()[0]);
+				assertEquals(2, report.getRejectedLines()[0]);
+			}
+		} finally {
+			Files.delete(file.toPath());
+		}
+	}
+
+}
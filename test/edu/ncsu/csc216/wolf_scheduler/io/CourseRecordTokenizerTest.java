@@ -0,0 +1,76 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests the CourseRecordTokenizer class.
+ *
+ * @author Bilal Mohamad
+ */
+public class CourseRecordTokenizerTest {
+
+	/**
+	 * Tests parsing valid course records.
+	 */
+	@Test
+	public void testParseValid() {
+		CourseRecordTokenizer tokenizer = new CourseRecordTokenizer();
+
+		Course c = tokenizer.parse("CSC116,Intro to Programming - Java,001,3,jdyoung2,MW,0910,1100");
+		assertEquals("CSC116,Intro to Programming - Java,001,3,jdyoung2,MW,910,1100", c.toString());
+
+		//Tokenizer can be reused for the next line
+		c = tokenizer.parse("CSC216,Programming Concepts - Java,601,4,jep,A");
+		assertEquals("CSC216,Programming Concepts - Java,601,4,jep,A", c.toString());
+		assertEquals(0, c.getStartTime());
+
+		//Arranged with explicit zero times
+		c = tokenizer.parse("CSC216,Programming Concepts - Java,601,4,jep,A,0,0");
+		assertEquals("CSC216,Programming Concepts - Java,601,4,jep,A", c.toString());
+
+		//Fields after the last used one are ignored
+		c = tokenizer.parse("CSC226,Discrete Math,001,+3,tmbarnes,MWF,935,1025,extra");
+		assertEquals("CSC226,Discrete Math,001,3,tmbarnes,MWF,935,1025", c.toString());
+		c = tokenizer.parse("CSC216,Programming Concepts - Java,601,4,jep,A,");
+		assertEquals("A", c.getMeetingDays());
+	}
+
+	/**
+	 * Tests parsing invalid course records.
+	 */
+	@Test
+	public void testParseInvalid() {
+		CourseRecordTokenizer tokenizer = new CourseRecordTokenizer();
+		String[][] invalid = {
+			{"", "Missing field"},
+			{"CSC216,Programming Concepts - Java,001,4,sesmith5", "Missing field"},
+			{"CSC216,Programming Concepts - Java,001,four,sesmith5,MW,1330,1445", "Invalid number"},
+			{"CSC216,Programming Concepts - Java,001,4,sesmith5,MW", "Missing field"},
+			{"CSC216,Programming Concepts - Java,001,4,sesmith5,MW,1330", "Missing field"},
+			{"CSC216,Programming Concepts - Java,001,4,sesmith5,MW,1330,", "Missing field"},
+			{"CSC216,Programming Concepts - Java,001,4,sesmith5,MW,13:30,1445", "Invalid number"},
+			{"CSC216,Programming Concepts - Java,001,4,sesmith5,MW,-,1445", "Invalid number"},
+			{"CSC216,Programming Concepts - Java,001,4,sesmith5,MW,1330,99999999999", "Invalid number"},
+			{"CSC216,Programming Concepts - Java,001,4,sesmith5,A,1330,1445", "Invalid times"},
+			{"CSC216,,001,4,sesmith5,MW,1330,1445", "Invalid title"},
+			{"CSC216,Programming Concepts - Java,001,4,sesmith5,MWA", "Invalid meeting days"},
+			{"C6,Programming Concepts - Java,001,4,sesmith5,MW,1330,1445", "Invalid name"},
+			{"CSC216,Programming Concepts - Java,01,4,sesmith5,MW,1330,1445", "Invalid section"},
+			{"CSC216,Programming Concepts - Java,001,7,sesmith5,MW,1330,1445", "Invalid credits"},
+			{"CSC216,Programming Concepts - Java,001,4,,MW,1330,1445", "Invalid instructor id"},
+			{"CSC216,Programming Concepts - Java,001,4,sesmith5,MW,1445,1330", "Invalid times"},
+		};
+		for (int i = 0; i < invalid.length; i++) {
+			assertNull("Record " + i + " should be invalid", tokenizer.parse(invalid[i][0]));
+			assertEquals(invalid[i][1], tokenizer.getError());
+		}
+
+		//Still usable after a failure
+		assertEquals("CSC230", tokenizer.parse("CSC230,C and Software Tools,001,3,dbsturgi,MW,1145,1300").getName());
+		assertNull(tokenizer.getError());
+	}
+}
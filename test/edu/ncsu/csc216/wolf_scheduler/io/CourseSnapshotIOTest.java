@@ -0,0 +1,187 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.zip.CRC32;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests the CourseSnapshotIO class.
+ *
+ * @author Bilal Mohamad
+ */
+public class CourseSnapshotIOTest {
+
+	/** Course records file the snapshot is made from */
+	private File source;
+	/** Snapshot file */
+	private File snapshot;
+
+	/**
+	 * Creates a course records file and an empty snapshot file.
+	 * @throws IOException if the files cannot be created
+	 */
+	@Before
+	public void setUp() throws IOException {
+		source = File.createTempFile("course_records", ".txt");
+		snapshot = File.createTempFile("course_records", ".snap");
+		Files.delete(snapshot.toPath());
+		String records = "CSC116,Intro to Programming - Java,001,3,jdyoung2,MW,0910,1100\n"
+				+ "CSC116,Intro to Programming - Java,001,3,spbalik,MW,1120,1310\n"
+				+ "CSC216,Programming Concepts - Java,601,4,jep,A\n"
+				+ "CSC216,Programming Concepts - Java,001,4,sesmith5,MW,1445,1330\n";
+		Files.write(source.toPath(), records.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Deletes the files.
+	 * @throws IOException if the files cannot be deleted
+	 */
+	@After
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(source.toPath());
+		Files.deleteIfExists(snapshot.toPath());
+	}
+
+	/**
+	 * Tests writing a snapshot and reading it back.
+	 * @throws IOException if the files cannot be read or written
+	 */
+	@Test
+	public void testWriteReadSnapshot() throws IOException {
+		//No snapshot yet
+		assertNull(CourseSnapshotIO.readSnapshot(snapshot.getPath(), source.getPath(), new CourseLoadReport()));
+
+		CourseLoadReport textReport = new CourseLoadReport();
+		ArrayList<Course> courses = CourseRecordIO.readCourseRecords(source.getPath(), textReport);
+		CourseSnapshotIO.writeSnapshot(snapshot.getPath(), source.getPath(), source.length(), source.lastModified(),
+				courses, textReport);
+
+		CourseLoadReport report = new CourseLoadReport();
+		ArrayList<Course> snapshotCourses = CourseSnapshotIO.readSnapshot(snapshot.getPath(), source.getPath(), report);
+		assertEquals(courses, snapshotCourses);
+		assertEquals("CSC216,Programming Concepts - Java,601,4,jep,A", snapshotCourses.get(1).toString());
+		assertEquals(textReport.toString(), report.toString());
+		assertArrayEquals(new int[] {2}, report.getDuplicateLines());
+		assertArrayEquals(new String[] {"Invalid times"}, report.getRejectionReasons());
+	}
+
+	/**
+	 * Tests that out of date and corrupt snapshots are not used.
+	 * @throws IOException if the files cannot be read or written
+	 */
+	@Test
+	public void testInvalidSnapshot() throws IOException {
+		CourseLoadReport textReport = new CourseLoadReport();
+		ArrayList<Course> courses = CourseRecordIO.readCourseRecords(source.getPath(), textReport);
+		CourseSnapshotIO.writeSnapshot(snapshot.getPath(), source.getPath(), source.length(), source.lastModified(),
+				courses, textReport);
+
+		//Corrupt one byte of a record
+		byte[] bytes = Files.readAllBytes(snapshot.toPath());
+		bytes[bytes.length - 20] ^= 1;
+		Files.write(snapshot.toPath(), bytes);
+		CourseLoadReport report = new CourseLoadReport();
+		assertNull(CourseSnapshotIO.readSnapshot(snapshot.getPath(), source.getPath(), report));
+		assertEquals(0, report.getLinesRead());
+
+		//Truncated snapshot
+		Files.write(snapshot.toPath(), new byte[] {1, 2, 3});
+		assertNull(CourseSnapshotIO.readSnapshot(snapshot.getPath(), source.getPath(), new CourseLoadReport()));
+
+		//Source changed after the snapshot was written
+		CourseSnapshotIO.writeSnapshot(snapshot.getPath(), source.getPath(), source.length(), source.lastModified(),
+				courses, textReport);
+		assertNotNull(CourseSnapshotIO.readSnapshot(snapshot.getPath(), source.getPath(), new CourseLoadReport()));
+		Files.write(source.toPath(), "CSC230,C and Software Tools,001,3,dbsturgi,MW,1145,1300\n"
+				.getBytes(StandardCharsets.UTF_8));
+		assertNull(CourseSnapshotIO.readSnapshot(snapshot.getPath(), source.getPath(), new CourseLoadReport()));
+
+		//Source changed while it was being parsed
+		long length = source.length();
+		long modified = source.lastModified();
+		courses = CourseRecordIO.readCourseRecords(source.getPath(), textReport);
+		Files.write(source.toPath(), "CSC216,Programming Concepts - Java,601,4,jep,A\n"
+				.getBytes(StandardCharsets.UTF_8));
+		assertTrue(source.setLastModified(modified + 2000));
+		assertFalse(CourseSnapshotIO.writeSnapshot(snapshot.getPath(), source.getPath(), length, modified,
+				courses, textReport));
+		assertNull(CourseSnapshotIO.readSnapshot(snapshot.getPath(), source.getPath(), new CourseLoadReport()));
+		File[] left = snapshot.getParentFile().listFiles((dir, name) -> name.startsWith(snapshot.getName())
+				&& name.endsWith(".tmp"));
+		assertEquals(0, left.length);
+
+		//Source is gone
+		Files.delete(source.toPath());
+		assertNull(CourseSnapshotIO.readSnapshot(snapshot.getPath(), source.getPath(), new CourseLoadReport()));
+	}
+
+	/**
+	 * Tests that a snapshot with a negative or huge table count is treated as corrupt even
+	 * when its checksum matches.
+	 * @throws IOException if the files cannot be read or written
+	 */
+	@Test
+	public void testInvalidCount() throws IOException {
+		CourseLoadReport textReport = new CourseLoadReport();
+		ArrayList<Course> courses = CourseRecordIO.readCourseRecords(source.getPath(), textReport);
+		CourseSnapshotIO.writeSnapshot(snapshot.getPath(), source.getPath(), source.length(), source.lastModified(),
+				courses, textReport);
+		byte[] bytes = Files.readAllBytes(snapshot.toPath());
+
+		//The string count follows the magic number, version, length, and last modified time
+		int stringCount = 24;
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+		in.skipBytes(stringCount);
+		int strings = in.readInt();
+		for (int i = 0; i < strings; i++) {
+			in.readUTF();
+		}
+		int courseCount = bytes.length - in.available();
+
+		int[] offsets = {stringCount, courseCount};
+		int[] counts = {-1, Integer.MAX_VALUE, 1 << 20};
+		for (int offset : offsets) {
+			for (int count : counts) {
+				Files.write(snapshot.toPath(), withCount(bytes, offset, count));
+				CourseLoadReport report = new CourseLoadReport();
+				assertNull(CourseSnapshotIO.readSnapshot(snapshot.getPath(), source.getPath(), report));
+				assertEquals(0, report.getLinesRead());
+			}
+		}
+
+		//The unchanged snapshot is still read
+		Files.write(snapshot.toPath(), withCount(bytes, courseCount, courses.size()));
+		assertEquals(courses, CourseSnapshotIO.readSnapshot(snapshot.getPath(), source.getPath(), new CourseLoadReport()));
+	}
+
+	/**
+	 * Returns a copy of a snapshot with one count replaced and the checksum updated to match.
+	 *
+	 * @param bytes  snapshot to copy
+	 * @param offset offset of the count
+	 * @param count  new count
+	 * @return the changed snapshot
+	 */
+	private static byte[] withCount(byte[] bytes, int offset, int count) {
+		ByteBuffer copy = ByteBuffer.wrap(bytes.clone());
+		copy.putInt(offset, count);
+		CRC32 checksum = new CRC32();
+		checksum.update(copy.array(), 0, bytes.length - 8);
+		copy.putLong(bytes.length - 8, checksum.getValue());
+		return copy.array();
+	}
+}
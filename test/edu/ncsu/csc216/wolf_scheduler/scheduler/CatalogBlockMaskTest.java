@@ -0,0 +1,100 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests the CatalogBlockMask class.
+ *
+ * @author Bilal Mohamad
+ */
+public class CatalogBlockMaskTest {
+
+	/**
+	 * Tests adding and removing Activities from the mask.
+	 */
+	@Test
+	public void testAddRemove() {
+		ArrayList<Course> courses = new ArrayList<Course>();
+		courses.add(new Course("CSC116", "Intro to Programming - Java", "001", 3, "jdyoung2", "MW", 910, 1100));
+		courses.add(new Course("CSC116", "Intro to Programming - Java", "002", 3, "spbalik", "MW", 1120, 1310));
+		courses.add(new Course("CSC216", "Programming Concepts - Java", "601", 4, "jep", "A"));
+		courses.add(new Course("CSC226", "Discrete Mathematics", "001", 3, "tmbarnes", "MWF", 935, 1025));
+		CourseCatalog catalog = new CourseCatalog(courses);
+
+		ArrayList<Activity> schedule = new ArrayList<Activity>();
+		schedule.add(courses.get(3));
+		CatalogBlockMask mask = new CatalogBlockMask(catalog, schedule);
+		assertSame(catalog, mask.getCatalog());
+		assertFalse(mask.isAddable(0));
+		assertTrue(mask.isAddable(1));
+		assertTrue(mask.isAddable(2));
+		assertFalse(mask.isAddable(3));
+
+		//Two Activities block CSC116-001 until both are removed
+		Event lunch = new Event("Lunch", "M", 1030, 1115, 1, "");
+		mask.add(lunch);
+		assertEquals(2, mask.getBlocked().cardinality());
+		mask.remove(courses.get(3));
+		assertFalse(mask.isAddable(0));
+		assertTrue(mask.isAddable(3));
+		mask.remove(lunch);
+		assertTrue(mask.getBlocked().isEmpty());
+
+		//A Course that is not in the catalog still blocks its own name
+		mask.add(new Course("CSC116", "Intro to Programming - Java", "003", 3, "tbdimitr", "TH", 1120, 1310));
+		assertEquals(2, mask.getBlocked().cardinality());
+		mask.clear();
+		assertTrue(mask.isAddable(0));
+		assertNull(catalog.getBuiltConflictGraph());
+	}
+
+
+	/**
+	 * Tests that the mask blocks the same sections as the rows of the conflict graph, without
+	 * building the graph itself.
+	 */
+	@Test
+	public void testMatchesConflictGraph() {
+		Random random = new Random(7);
+		String days = "MTWHF";
+		ArrayList<Course> courses = new ArrayList<Course>();
+		for (int i = 0; i < 200; i++) {
+			String meetingDays = "" + days.charAt(random.nextInt(days.length()));
+			int start = 800 + random.nextInt(10) * 100 + random.nextInt(2) * 5;
+			int end = start + 45 + random.nextInt(2) * 100;
+			courses.add(new Course("CSC" + (100 + i % 50), "Course", String.format("%03d", i / 50 + 1), 3,
+					"inst", meetingDays, start, end));
+		}
+		CourseCatalog catalog = new CourseCatalog(courses);
+		CatalogBlockMask mask = new CatalogBlockMask(catalog, new ArrayList<Activity>());
+		for (int i = 0; i < catalog.size(); i += 7) {
+			mask.add(catalog.get(i));
+		}
+		for (int i = 0; i < catalog.size(); i += 14) {
+			mask.remove(catalog.get(i));
+		}
+		assertNull(catalog.getBuiltConflictGraph());
+
+		ConflictGraph graph = catalog.getConflictGraph();
+		BitSet expected = new BitSet();
+		for (int i = 7; i < catalog.size(); i += 14) {
+			expected.or(graph.getConflicts(i));
+			String name = catalog.get(i).getName();
+			for (Course c : catalog.getSections(name)) {
+				expected.set(catalog.indexOf(name, c.getSection()));
+			}
+		}
+		assertEquals(expected, mask.getBlocked());
+	}
+
+}
@@ -0,0 +1,90 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests the ConflictGraph class.
+ *
+ * @author Bilal Mohamad
+ */
+public class ConflictGraphTest {
+
+	/**
+	 * Tests ConflictGraph() on a small catalog.
+	 */
+	@Test
+	public void testConflictGraph() {
+		ArrayList<Course> courses = new ArrayList<Course>();
+		courses.add(new Course("CSC116", "Intro to Programming - Java", "001", 3, "jdyoung2", "MW", 910, 1100));
+		courses.add(new Course("CSC116", "Intro to Programming - Java", "002", 3, "spbalik", "MW", 1120, 1310));
+		courses.add(new Course("CSC216", "Programming Concepts - Java", "601", 4, "jep", "A"));
+		courses.add(new Course("CSC226", "Discrete Mathematics", "001", 3, "tmbarnes", "MWF", 935, 1025));
+		courses.add(new Course("CSC230", "C and Software Tools", "001", 3, "dbsturgi", "MW", 1145, 1300));
+		ConflictGraph graph = new ConflictGraph(courses);
+
+		assertEquals(5, graph.size());
+		assertTrue(graph.conflicts(0, 3));
+		assertTrue(graph.conflicts(3, 0));
+		assertTrue(graph.conflicts(1, 4));
+		assertFalse(graph.conflicts(0, 1));
+		assertFalse(graph.conflicts(2, 2));
+
+		BitSet all = new BitSet();
+		all.set(0, 5);
+		BitSet compatible = graph.getCompatible(3, all);
+		assertFalse(compatible.get(0));
+		assertEquals(4, compatible.cardinality());
+		assertEquals(1, graph.getConflicts(4).cardinality());
+
+		try {
+			graph.conflicts(0, 5);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+			assertEquals(5, graph.size());
+		}
+		try {
+			new ConflictGraph(null);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Activities cannot be null.", e.getMessage());
+		}
+	}
+
+	/**
+	 * Compares the graph with checking every pair of random Activities.
+	 */
+	@Test
+	public void testRandomActivities() {
+		Random random = new Random(226);
+		String[] days = {"U", "M", "T", "W", "H", "F", "S", "MW", "TH", "MWF", "SU", "MTWHF"};
+		ArrayList<Activity> activities = new ArrayList<Activity>();
+		for (int i = 0; i < 300; i++) {
+			int start = random.nextInt(24) * 100 + random.nextInt(4) * 15;
+			int end = Math.min(2359, start + random.nextInt(300));
+			if (end % 100 > 59) {
+				end = end - end % 100 + 59;
+			}
+			activities.add(new Event("Event " + i, days[random.nextInt(days.length)], start, end,
+				1 + random.nextInt(4), 1 + random.nextInt(4), ""));
+		}
+		ConflictGraph graph = new ConflictGraph(activities);
+
+		for (int i = 0; i < activities.size(); i++) {
+			for (int j = 0; j < activities.size(); j++) {
+				boolean expected = i != j && activities.get(i).conflictsWith(activities.get(j), null);
+				assertEquals(expected, graph.conflicts(i, j));
+			}
+		}
+	}
+
+}
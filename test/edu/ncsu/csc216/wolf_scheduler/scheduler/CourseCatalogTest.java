@@ -0,0 +1,103 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests the CourseCatalog class.
+ *
+ * @author Bilal Mohamad
+ */
+public class CourseCatalogTest {
+
+	/** Courses used to build the catalog */
+	private ArrayList<Course> courses;
+
+	/**
+	 * Creates the list of Courses used by each test.
+	 */
+	@Before
+	public void setUp() {
+		courses = new ArrayList<Course>();
+		courses.add(new Course("CSC116", "Intro to Programming - Java", "001", 3, "jdyoung2", "MW", 910, 1100));
+		courses.add(new Course("CSC116", "Intro to Programming - Java", "002", 3, "spbalik", "MW", 1120, 1310));
+		courses.add(new Course("CSC216", "Programming Concepts - Java", "001", 4, "sesmith5", "TH", 1330, 1445));
+		courses.add(new Course("CSC116", "Intro to Programming - Java", "002", 3, "jtking", "TH", 910, 1100));
+		courses.add(new Course("CSC216", "Programming Concepts - Java", "601", 4, "jep", "A"));
+	}
+
+	/**
+	 * Tests CourseCatalog() and the name and section index.
+	 */
+	@Test
+	public void testGetCourse() {
+		CourseCatalog catalog = new CourseCatalog(courses);
+
+		//The later duplicate of CSC116-002 is dropped
+		assertEquals(4, catalog.size());
+		assertEquals("spbalik", catalog.getCourse("CSC116", "002").getInstructorId());
+		assertSame(courses.get(4), catalog.get(3));
+
+		assertEquals(0, catalog.indexOf("CSC116", "001"));
+		assertEquals(2, catalog.indexOf("CSC216", "001"));
+		assertEquals(3, catalog.indexOf("CSC216", "601"));
+		assertEquals(-1, catalog.indexOf("CSC216", "002"));
+		assertEquals(-1, catalog.indexOf("CSC492", "001"));
+		assertNull(catalog.getCourse("CSC492", "001"));
+		assertNull(catalog.getCourse(null, null));
+
+		try {
+			new CourseCatalog(null);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Catalog cannot be null.", e.getMessage());
+		}
+	}
+
+	/**
+	 * Tests CourseCatalog.getSections().
+	 */
+	@Test
+	public void testGetSections() {
+		CourseCatalog catalog = new CourseCatalog(courses);
+
+		List<Course> sections = catalog.getSections("CSC116");
+		assertEquals(2, sections.size());
+		assertEquals("001", sections.get(0).getSection());
+		assertEquals("002", sections.get(1).getSection());
+		assertEquals(2, catalog.getSections("CSC216").size());
+		assertEquals(0, catalog.getSections("CSC492").size());
+
+		try {
+			sections.clear();
+			fail();
+		} catch (UnsupportedOperationException e) {
+			assertEquals(2, catalog.getSections("CSC116").size());
+		}
+	}
+
+	/**
+	 * Tests CourseCatalog.getCompatibleSections() and getConflictGraph().
+	 */
+	@Test
+	public void testGetCompatibleSections() {
+		courses.add(new Course("CSC226", "Discrete Mathematics", "001", 3, "tmbarnes", "MWF", 935, 1025));
+		CourseCatalog catalog = new CourseCatalog(courses);
+
+		List<Course> compatible = catalog.getCompatibleSections("CSC226", "001", "CSC116");
+		assertEquals(1, compatible.size());
+		assertEquals("002", compatible.get(0).getSection());
+		assertEquals(2, catalog.getCompatibleSections("CSC116", "001", "CSC216").size());
+		assertTrue(catalog.getCompatibleSections("CSC492", "001", "CSC116").isEmpty());
+		assertTrue(catalog.getCompatibleSections("CSC226", "001", "CSC492").isEmpty());
+		assertSame(catalog.getConflictGraph(), catalog.getConflictGraph());
+	}
+
+}
@@ -0,0 +1,526 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.ConflictResult;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests the ScheduleGenerator class.
+ *
+ * @author Bilal Mohamad
+ */
+public class ScheduleGeneratorTest {
+
+	/**
+	 * Builds the catalog of the test course records file.
+	 *
+	 * @return the catalog
+	 */
+	static CourseCatalog testCatalog() {
+		ArrayList<Course> courses = new ArrayList<Course>();
+		courses.add(new Course("CSC116", "Intro to Programming - Java", "001", 3, "jdyoung2", "MW", 910, 1100));
+		courses.add(new Course("CSC116", "Intro to Programming - Java", "002", 3, "spbalik", "MW", 1120, 1310));
+		courses.add(new Course("CSC116", "Intro to Programming - Java", "003", 3, "tbdimitr", "TH", 1120, 1310));
+		courses.add(new Course("CSC216", "Programming Concepts - Java", "001", 4, "sesmith5", "TH", 1330, 1445));
+		courses.add(new Course("CSC216", "Programming Concepts - Java", "002", 4, "jtking", "MW", 1330, 1445));
+		courses.add(new Course("CSC216", "Programming Concepts - Java", "601", 4, "jep", "A"));
+		courses.add(new Course("CSC226", "Discrete Mathematics", "001", 3, "tmbarnes", "MWF", 935, 1025));
+		courses.add(new Course("CSC230", "C and Software Tools", "001", 3, "dbsturgi", "MW", 1145, 1300));
+		return new CourseCatalog(courses);
+	}
+
+	/**
+	 * Builds a catalog of random sections of the given number of Courses.
+	 *
+	 * @param random   source of the sections
+	 * @param names    number of Courses
+	 * @param sections largest number of sections of a Course
+	 * @return the catalog
+	 */
+	static CourseCatalog randomCatalog(Random random, int names, int sections) {
+		String[] days = {"MW", "TH", "MWF", "F", "MTWHF"};
+		ArrayList<Course> courses = new ArrayList<Course>();
+		for (int n = 0; n < names; n++) {
+			int count = 1 + random.nextInt(sections);
+			for (int s = 0; s < count; s++) {
+				String name = "CSC" + (100 + n);
+				String section = String.format("%03d", s + 1);
+				if (random.nextInt(10) == 0) {
+					courses.add(new Course(name, "Title", section, 3, "id", "A"));
+				}
+				else {
+					int start = (8 + random.nextInt(10)) * 100 + random.nextInt(4) * 15;
+					int end = start + 50 + random.nextInt(2) * 25;
+					end = end % 100 >= 60 ? end + 40 : end;
+					courses.add(new Course(name, "Title", section, 3, "id", days[random.nextInt(days.length)], start, end));
+				}
+			}
+		}
+		return new CourseCatalog(courses);
+	}
+
+	/**
+	 * Finds every conflict free schedule by trying every combination of sections.
+	 *
+	 * @param catalog catalog to take the sections from
+	 * @param names   names of the Courses
+	 * @return list of schedules in the same form as ScheduleGenerator.generate
+	 */
+	static List<int[]> bruteForce(CourseCatalog catalog, List<String> names) {
+		ArrayList<int[]> schedules = new ArrayList<int[]>();
+		bruteForce(catalog, names, new int[names.size()], 0, schedules);
+		return schedules;
+	}
+
+	/**
+	 * Tries every section of the Course at the given index with every earlier choice.
+	 *
+	 * @param catalog   catalog to take the sections from
+	 * @param names     names of the Courses
+	 * @param schedule  sections chosen so far
+	 * @param index     index of the Course to choose a section of
+	 * @param schedules list to add complete schedules to
+	 */
+	private static void bruteForce(CourseCatalog catalog, List<String> names, int[] schedule, int index,
+			List<int[]> schedules) {
+		if (index == names.size()) {
+			for (int i = 0; i < schedule.length; i++) {
+				for (int j = i + 1; j < schedule.length; j++) {
+					if (catalog.get(schedule[i]).conflictsWith(catalog.get(schedule[j]), new ConflictResult())) {
+						return;
+					}
+				}
+			}
+			schedules.add(schedule.clone());
+			return;
+		}
+		for (Course c : catalog.getSections(names.get(index))) {
+			schedule[index] = catalog.indexOf(c.getName(), c.getSection());
+			bruteForce(catalog, names, schedule, index + 1, schedules);
+		}
+	}
+
+	/**
+	 * Sorts schedules so that two lists can be compared regardless of order.
+	 *
+	 * @param schedules list of schedules
+	 * @return sorted String forms of the schedules
+	 */
+	static List<String> sorted(List<int[]> schedules) {
+		ArrayList<String> keys = new ArrayList<String>();
+		for (int[] schedule : schedules) {
+			keys.add(Arrays.toString(schedule));
+		}
+		keys.sort(null);
+		return keys;
+	}
+
+	/**
+	 * Tests generate() on the test catalog.
+	 */
+	@Test
+	public void testGenerate() {
+		CourseCatalog catalog = testCatalog();
+		ScheduleGenerator generator = new ScheduleGenerator(catalog, Arrays.asList("CSC116", "CSC216", "CSC226"));
+		assertEquals(3, generator.getCourseCount());
+
+		List<int[]> schedules = generator.generate();
+		assertEquals(6, schedules.size());
+		assertArrayEquals(new int[] {1, 3, 6}, schedules.get(0));
+		assertArrayEquals(new int[] {1, 5, 6}, schedules.get(2));
+		assertArrayEquals(new int[] {2, 5, 6}, schedules.get(5));
+		assertEquals("CSC226", generator.getCourses(schedules.get(0)).get(2).getName());
+		assertNull(catalog.getBuiltConflictGraph());
+
+		//Once the catalog graph exists, the generator uses it and finds the same schedules
+		catalog.getConflictGraph();
+		assertNotNull(catalog.getBuiltConflictGraph());
+		assertEquals(sorted(schedules), sorted(new ScheduleGenerator(catalog, Arrays.asList("CSC116", "CSC216", "CSC226")).generate()));
+
+		assertArrayEquals(new int[] {2, 6, 7}, new ScheduleGenerator(catalog, Arrays.asList("CSC116", "CSC226", "CSC230")).generate().get(0));
+		assertEquals(0, new ScheduleGenerator(catalog, Arrays.asList("CSC116", "CSC492")).generate().size());
+		assertEquals(1, new ScheduleGenerator(catalog, new ArrayList<String>()).generate().size());
+
+		try {
+			new ScheduleGenerator(catalog, Arrays.asList("CSC116", "CSC116"));
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("A course cannot be requested more than once.", e.getMessage());
+		}
+		try {
+			new ScheduleGenerator(null, Arrays.asList("CSC116"));
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Courses cannot be null.", e.getMessage());
+		}
+	}
+
+	/**
+	 * Tests generate() against trying every combination on random catalogs.
+	 */
+	@Test
+	public void testGenerateRandom() {
+		Random random = new Random(21);
+		for (int trial = 0; trial < 30; trial++) {
+			int names = 1 + random.nextInt(5);
+			CourseCatalog catalog = randomCatalog(random, names, 1 + random.nextInt(30));
+			ArrayList<String> requested = new ArrayList<String>();
+			for (int n = names - 1; n >= 0; n--) {
+				requested.add("CSC" + (100 + n));
+			}
+			List<int[]> expected = bruteForce(catalog, requested);
+			assertEquals(sorted(expected), sorted(new ScheduleGenerator(catalog, requested).generate()));
+		}
+	}
+
+	/**
+	 * Tests that generateParallel() and submit() return the same schedules in the same order
+	 * as generate().
+	 */
+	@Test
+	public void testGenerateParallel() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			Random random = new Random(22);
+			for (int trial = 0; trial < 20; trial++) {
+				int names = 1 + random.nextInt(6);
+				CourseCatalog catalog = randomCatalog(random, names, 1 + random.nextInt(20));
+				ArrayList<String> requested = new ArrayList<String>();
+				for (int n = 0; n < names; n++) {
+					requested.add("CSC" + (100 + n));
+				}
+				ScheduleGenerator generator = new ScheduleGenerator(catalog, requested);
+				List<int[]> expected = generator.generate();
+				List<int[]> actual = generator.submit(pool).join();
+				assertEquals(expected.size(), actual.size());
+				for (int i = 0; i < expected.size(); i++) {
+					assertArrayEquals(expected.get(i), actual.get(i));
+				}
+			}
+			List<int[]> schedules = new ScheduleGenerator(testCatalog(), Arrays.asList("CSC116", "CSC216", "CSC226")).generateParallel();
+			assertEquals(6, schedules.size());
+			assertArrayEquals(new int[] {1, 3, 6}, schedules.get(0));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Tests cancelling a search started with submit().  Once the search is cancelled, no
+	 * further task starts its search; the one worker may only finish the task it had already
+	 * started.
+	 */
+	@Test
+	public void testSubmitCancel() {
+		ForkJoinPool pool = new ForkJoinPool(1);
+		try {
+			//Billions of schedules, so the search cannot finish before it is cancelled
+			CourseCatalog catalog = randomCatalog(new Random(1), 8, 40);
+			ArrayList<String> requested = new ArrayList<String>();
+			for (int n = 0; n < 8; n++) {
+				requested.add("CSC" + (100 + n));
+			}
+			ScheduleGenerator generator = new ScheduleGenerator(catalog, requested);
+			ForkJoinTask<List<int[]>> task = generator.submit(pool);
+			while (generator.getTasksRun() < 2) {
+				Thread.yield();
+			}
+			assertTrue(task.cancel(true));
+			long run = generator.getTasksRun();
+			try {
+				task.join();
+				fail();
+			} catch (CancellationException e) {
+				assertTrue(task.isCancelled());
+			}
+			assertTrue(pool.awaitQuiescence(10, TimeUnit.SECONDS));
+			assertTrue(generator.getTasksRun() <= run + 1);
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * Tests iterator() on the test catalog.
+	 */
+	@Test
+	public void testIterator() {
+		ScheduleGenerator generator = new ScheduleGenerator(testCatalog(), Arrays.asList("CSC116", "CSC216", "CSC226"));
+		Iterator<int[]> it = generator.iterator();
+		assertTrue(it.hasNext());
+		assertArrayEquals(new int[] {1, 3, 6}, it.next());
+		assertArrayEquals(new int[] {1, 4, 6}, it.next());
+		int count = 2;
+		while (it.hasNext()) {
+			it.next();
+			count++;
+		}
+		assertEquals(6, count);
+		try {
+			it.next();
+			fail();
+		} catch (NoSuchElementException e) {
+			assertFalse(it.hasNext());
+		}
+
+		int schedules = 0;
+		for (int[] schedule : new ScheduleGenerator(testCatalog(), new ArrayList<String>())) {
+			assertEquals(0, schedule.length);
+			schedules++;
+		}
+		assertEquals(1, schedules);
+	}
+
+	/**
+	 * Tests that stream() stops early on a request with too many schedules to list.
+	 */
+	@Test
+	public void testStreamLimit() {
+		CourseCatalog catalog = randomCatalog(new Random(1), 8, 40);
+		ArrayList<String> requested = new ArrayList<String>();
+		for (int n = 0; n < 8; n++) {
+			requested.add("CSC" + (100 + n));
+		}
+		List<int[]> first = new ScheduleGenerator(catalog, requested).stream().limit(50).collect(Collectors.toList());
+		assertEquals(50, first.size());
+		for (int[] schedule : first) {
+			for (int i = 0; i < schedule.length; i++) {
+				assertEquals("CSC" + (100 + i), catalog.get(schedule[i]).getName());
+				for (int j = i + 1; j < schedule.length; j++) {
+					assertFalse(catalog.get(schedule[i]).conflictsWith(catalog.get(schedule[j]), new ConflictResult()));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tests that spliterator() splits into parts that together hold every schedule in order.
+	 */
+	@Test
+	public void testSpliterator() {
+		Random random = new Random(23);
+		for (int trial = 0; trial < 20; trial++) {
+			int names = 1 + random.nextInt(5);
+			CourseCatalog catalog = randomCatalog(random, names, 1 + random.nextInt(20));
+			ArrayList<String> requested = new ArrayList<String>();
+			for (int n = 0; n < names; n++) {
+				requested.add("CSC" + (100 + n));
+			}
+			ScheduleGenerator generator = new ScheduleGenerator(catalog, requested);
+			List<int[]> expected = generator.generate();
+
+			//Take a few schedules, split, and then read the split off prefix before this part
+			ArrayList<int[]> actual = new ArrayList<int[]>();
+			Spliterator<int[]> spliterator = generator.spliterator();
+			for (int i = 0; i < 3; i++) {
+				spliterator.tryAdvance(actual::add);
+			}
+			Spliterator<int[]> split = spliterator.trySplit();
+			if (split != null) {
+				split.forEachRemaining(actual::add);
+			}
+			spliterator.forEachRemaining(actual::add);
+			assertEquals(expected.size(), actual.size());
+			for (int i = 0; i < expected.size(); i++) {
+				assertArrayEquals(expected.get(i), actual.get(i));
+			}
+
+			List<int[]> parallel = StreamSupport.stream(generator.spliterator(), true).collect(Collectors.toList());
+			assertEquals(expected.size(), parallel.size());
+			for (int i = 0; i < expected.size(); i++) {
+				assertArrayEquals(expected.get(i), parallel.get(i));
+			}
+		}
+	}
+
+	/**
+	 * Tests generateBest() against sorting every schedule by score.
+	 */
+	@Test
+	public void testGenerateBest() {
+		Random random = new Random(24);
+		ScheduleScorer[] scorers = {
+			ScheduleScorer.daysOnCampus(),
+			ScheduleScorer.startsBefore(1000).plus(ScheduleScorer.daysOnCampus().times(0.5)),
+			ScheduleScorer.gaps(),
+			ScheduleScorer.preferredInstructors(Arrays.asList("id")).plus(ScheduleScorer.gaps().times(0.01))
+		};
+		for (int trial = 0; trial < 40; trial++) {
+			int names = 1 + random.nextInt(5);
+			CourseCatalog catalog = randomCatalog(random, names, 1 + random.nextInt(12));
+			ArrayList<String> requested = new ArrayList<String>();
+			for (int n = 0; n < names; n++) {
+				requested.add("CSC" + (100 + n));
+			}
+			ScheduleGenerator generator = new ScheduleGenerator(catalog, requested);
+			ScheduleScorer scorer = scorers[trial % scorers.length];
+			int k = 1 + random.nextInt(10);
+
+			assertBest(generator, scorer, k);
+		}
+
+		ScheduleGenerator generator = new ScheduleGenerator(testCatalog(), Arrays.asList("CSC116", "CSC216", "CSC226"));
+		List<int[]> best = generator.generateBest(ScheduleScorer.daysOnCampus(), 3);
+		assertEquals(3, best.size());
+		assertArrayEquals(new int[] {1, 4, 6}, best.get(0));
+		assertArrayEquals(new int[] {1, 5, 6}, best.get(1));
+		assertArrayEquals(new int[] {1, 3, 6}, best.get(2));
+		assertEquals(0, generator.generateBest(ScheduleScorer.gaps(), 0).size());
+		assertEquals(1, new ScheduleGenerator(testCatalog(), new ArrayList<String>()).generateBest(ScheduleScorer.gaps(), 5).size());
+		try {
+			generator.generateBest(null, 1);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Scorer cannot be null.", e.getMessage());
+		}
+		try {
+			generator.generateBest(ScheduleScorer.gaps(), -1);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Invalid number of schedules", e.getMessage());
+		}
+	}
+
+	/**
+	 * Tests that generateBest() finishes on a request with too many schedules to list.
+	 */
+	@Test(timeout = 10000)
+	public void testGenerateBestLarge() {
+		CourseCatalog catalog = randomCatalog(new Random(1), 8, 40);
+		ArrayList<String> requested = new ArrayList<String>();
+		for (int n = 0; n < 8; n++) {
+			requested.add("CSC" + (100 + n));
+		}
+		ScheduleGenerator generator = new ScheduleGenerator(catalog, requested);
+		ScheduleScorer scorer = ScheduleScorer.daysOnCampus().plus(ScheduleScorer.startsBefore(1000));
+		List<int[]> best = generator.generateBest(scorer, 10);
+		assertEquals(10, best.size());
+		double previous = Double.NEGATIVE_INFINITY;
+		for (int[] schedule : best) {
+			double score = scorer.score(generator.getCourses(schedule), 0);
+			assertTrue(score >= previous);
+			previous = score;
+		}
+	}
+
+	/**
+	 * Checks that generateBest() returns valid, distinct schedules with the k lowest scores.
+	 * Schedules with the same score may come in any order.
+	 *
+	 * @param generator generator to check
+	 * @param scorer    scorer to rank the schedules with
+	 * @param k         number of schedules to ask for
+	 */
+	private static void assertBest(ScheduleGenerator generator, ScheduleScorer scorer, int k) {
+		List<int[]> all = generator.generate();
+		ArrayList<Double> expected = new ArrayList<Double>();
+		for (int[] schedule : all) {
+			expected.add(scorer.score(generator.getCourses(schedule), 0));
+		}
+		expected.sort(null);
+
+		List<int[]> best = generator.generateBest(scorer, k);
+		assertEquals(Math.min(k, all.size()), best.size());
+		List<String> valid = sorted(all);
+		ArrayList<String> seen = new ArrayList<String>();
+		for (int i = 0; i < best.size(); i++) {
+			assertEquals(expected.get(i), scorer.score(generator.getCourses(best.get(i)), 0), 0);
+			String key = Arrays.toString(best.get(i));
+			assertTrue(valid.contains(key));
+			assertFalse(seen.contains(key));
+			seen.add(key);
+		}
+	}
+
+	/**
+	 * Tests that sections with the same days and times are searched as one class and expanded
+	 * into every schedule.
+	 */
+	@Test
+	public void testEquivalentSections() {
+		ArrayList<Course> courses = new ArrayList<Course>();
+		courses.add(new Course("CSC116", "Intro to Programming - Java", "001", 3, "jdyoung2", "MW", 910, 1100));
+		courses.add(new Course("CSC116", "Intro to Programming - Java", "002", 3, "spbalik", "MW", 910, 1100));
+		courses.add(new Course("CSC116", "Intro to Programming - Java", "003", 3, "tbdimitr", "TH", 1120, 1310));
+		courses.add(new Course("CSC116", "Intro to Programming - Java", "004", 3, "jep", "MW", 910, 1100));
+		courses.add(new Course("CSC216", "Programming Concepts - Java", "001", 4, "sesmith5", "TH", 1330, 1445));
+		courses.add(new Course("CSC216", "Programming Concepts - Java", "601", 4, "jep", "A"));
+		courses.add(new Course("CSC216", "Programming Concepts - Java", "602", 4, "jtking", "A"));
+		courses.add(new Course("CSC226", "Discrete Mathematics", "001", 3, "tmbarnes", "TH", 1200, 1315));
+		CourseCatalog catalog = new CourseCatalog(courses);
+		ScheduleGenerator generator = new ScheduleGenerator(catalog, Arrays.asList("CSC116", "CSC216", "CSC226"));
+		assertEquals(5, generator.getClassCount());
+
+		//CSC116 MW (001, 002, 004) with CSC216 001 or either arranged section
+		List<int[]> schedules = generator.generate();
+		assertEquals(9, schedules.size());
+		assertArrayEquals(new int[] {0, 4, 7}, schedules.get(0));
+		assertArrayEquals(new int[] {1, 4, 7}, schedules.get(1));
+		assertArrayEquals(new int[] {3, 4, 7}, schedules.get(2));
+		assertArrayEquals(new int[] {0, 5, 7}, schedules.get(3));
+		assertArrayEquals(new int[] {0, 6, 7}, schedules.get(4));
+		assertArrayEquals(new int[] {3, 6, 7}, schedules.get(8));
+		assertEquals(sorted(bruteForce(catalog, Arrays.asList("CSC116", "CSC216", "CSC226"))), sorted(schedules));
+
+		List<int[]> best = generator.generateBest(ScheduleScorer.preferredInstructors(Arrays.asList("jep")), 2);
+		assertArrayEquals(new int[] {3, 5, 7}, best.get(0));
+		assertArrayEquals(new int[] {0, 5, 7}, best.get(1));
+	}
+
+	/**
+	 * Tests every kind of search on random catalogs where many sections share a time.
+	 */
+	@Test
+	public void testEquivalentSectionsRandom() {
+		Random random = new Random(25);
+		String[] days = {"MW", "TH", "MWF"};
+		for (int trial = 0; trial < 20; trial++) {
+			int names = 1 + random.nextInt(5);
+			ArrayList<Course> courses = new ArrayList<Course>();
+			ArrayList<String> requested = new ArrayList<String>();
+			for (int n = 0; n < names; n++) {
+				String name = "CSC" + (100 + n);
+				requested.add(name);
+				int count = 1 + random.nextInt(15);
+				for (int s = 0; s < count; s++) {
+					int start = (9 + random.nextInt(4)) * 100;
+					courses.add(new Course(name, "Title", String.format("%03d", s + 1), 3, "id" + random.nextInt(3),
+							days[random.nextInt(days.length)], start, start + 50));
+				}
+			}
+			CourseCatalog catalog = new CourseCatalog(courses);
+			ScheduleGenerator generator = new ScheduleGenerator(catalog, requested);
+			assertTrue(generator.getClassCount() <= names * days.length * 4);
+
+			List<int[]> expected = generator.generate();
+			assertEquals(sorted(bruteForce(catalog, requested)), sorted(expected));
+			List<int[]> parallel = generator.generateParallel();
+			List<int[]> streamed = StreamSupport.stream(generator.spliterator(), true).collect(Collectors.toList());
+			assertEquals(expected.size(), parallel.size());
+			assertEquals(expected.size(), streamed.size());
+			for (int i = 0; i < expected.size(); i++) {
+				assertArrayEquals(expected.get(i), parallel.get(i));
+				assertArrayEquals(expected.get(i), streamed.get(i));
+			}
+			assertBest(generator, ScheduleScorer.preferredInstructors(Arrays.asList("id0")).plus(ScheduleScorer.daysOnCampus()), 1 + random.nextInt(8));
+		}
+	}
+
+}
@@ -0,0 +1,120 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests the ScheduleIndex class.
+ *
+ * @author Bilal Mohamad
+ */
+public class ScheduleIndexTest {
+
+	/**
+	 * Tests ScheduleIndex.findDuplicate().
+	 */
+	@Test
+	public void testFindDuplicate() {
+		ScheduleIndex index = new ScheduleIndex();
+		Course c1 = new Course("CSC216", "Programming Concepts - Java", "001", 4, "sesmith5", "TH", 1330, 1445);
+		Course c2 = new Course("CSC216", "Programming Concepts - Java", "601", 4, "jep", "A");
+		Event e1 = new Event("CSC216", "U", 1000, 1100, 1, "Study group");
+		index.add(c1);
+		assertEquals(1, index.size());
+
+		assertSame(c1, index.findDuplicate(c2));
+		//Events and Courses are never duplicates of each other
+		assertNull(index.findDuplicate(e1));
+		index.add(e1);
+		assertSame(e1, index.findDuplicate(new Event("CSC216", "S", 1000, 1100, 1, "")));
+
+		index.remove(c1);
+		assertNull(index.findDuplicate(c2));
+		assertEquals(1, index.size());
+		index.clear();
+		assertNull(index.findDuplicate(e1));
+		assertEquals(0, index.size());
+	}
+
+	/**
+	 * Tests ScheduleIndex.findConflict() and findConflicts().
+	 */
+	@Test
+	public void testFindConflicts() {
+		ScheduleIndex index = new ScheduleIndex();
+		Course c1 = new Course("CSC116", "Intro to Programming - Java", "001", 3, "jdyoung2", "MW", 910, 1100);
+		Course c2 = new Course("CSC216", "Programming Concepts - Java", "001", 4, "sesmith5", "TH", 1330, 1445);
+		Course c3 = new Course("CSC226", "Discrete Mathematics", "001", 3, "tmbarnes", "MWF", 1200, 1300);
+		Course arranged = new Course("CSC216", "Programming Concepts - Java", "601", 4, "jep", "A");
+		index.add(c1);
+		index.add(c2);
+		index.add(c3);
+		index.add(arranged);
+
+		Event e1 = new Event("Lunch", "MTWHF", 1100, 1200, 1, "");
+		List<Activity> conflicts = index.findConflicts(e1);
+		assertEquals(2, conflicts.size());
+		assertSame(c1, conflicts.get(0));
+		assertSame(c3, conflicts.get(1));
+		assertNotNull(index.findConflict(e1));
+
+		assertNull(index.findConflict(new Event("Break", "TH", 1450, 1500, 1, "")));
+		assertNull(index.findConflict(new Course("CSC316", "Data Structures", "001", 3, "jtking", "A")));
+
+		index.remove(c1);
+		index.remove(c3);
+		assertEquals(2, index.size());
+		assertNull(index.findConflict(e1));
+	}
+
+	/**
+	 * Compares the index with checking every scheduled Activity over random schedules.
+	 */
+	@Test
+	public void testRandomSchedules() {
+		Random random = new Random(216);
+		String[] days = {"U", "M", "T", "W", "H", "F", "S", "MW", "TH", "MWF", "SU", "MTWHF"};
+		ScheduleIndex index = new ScheduleIndex();
+		ArrayList<Activity> schedule = new ArrayList<Activity>();
+
+		for (int i = 0; i < 2000; i++) {
+			int start = random.nextInt(24) * 100 + random.nextInt(4) * 15;
+			int end = Math.min(2359, start + random.nextInt(300));
+			if (end % 100 > 59) {
+				end = end - end % 100 + 59;
+			}
+			Event event = new Event("Event " + i, days[random.nextInt(days.length)], start, end,
+				1 + random.nextInt(4), 1 + random.nextInt(4), "");
+
+			ArrayList<Activity> expected = new ArrayList<Activity>();
+			for (int j = 0; j < schedule.size(); j++) {
+				if (event.conflictsWith(schedule.get(j), null)) {
+					expected.add(schedule.get(j));
+				}
+			}
+			List<Activity> actual = index.findConflicts(event);
+			assertEquals(expected.size(), actual.size());
+			assertTrue(actual.containsAll(expected));
+			assertEquals(expected.isEmpty(), index.findConflict(event) == null);
+
+			if (schedule.size() > 0 && random.nextInt(3) == 0) {
+				index.remove(schedule.remove(random.nextInt(schedule.size())));
+			}
+			else {
+				schedule.add(event);
+				index.add(event);
+			}
+			assertEquals(schedule.size(), index.size());
+		}
+	}
+
+}
@@ -0,0 +1,107 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests the ScheduleScorer interface.
+ *
+ * @author Bilal Mohamad
+ */
+public class ScheduleScorerTest {
+
+	/** Schedule used by the tests */
+	private static final List<Course> SCHEDULE = Arrays.asList(
+			new Course("CSC116", "Intro to Programming - Java", "001", 3, "jdyoung2", "MW", 910, 1100),
+			new Course("CSC216", "Programming Concepts - Java", "001", 4, "sesmith5", "TH", 1330, 1445),
+			new Course("CSC226", "Discrete Mathematics", "001", 3, "tmbarnes", "F", 935, 1025),
+			new Course("CSC230", "C and Software Tools", "001", 3, "dbsturgi", "MW", 1145, 1300),
+			new Course("CSC217", "Programming Concepts - Java Lab", "601", 1, "jep", "A"));
+
+	/**
+	 * Tests daysOnCampus().
+	 */
+	@Test
+	public void testDaysOnCampus() {
+		ScheduleScorer scorer = ScheduleScorer.daysOnCampus();
+		assertEquals(5, scorer.score(SCHEDULE, 0), 0);
+		assertEquals(2, scorer.score(SCHEDULE.subList(0, 1), 4), 0);
+		assertEquals(0, scorer.score(SCHEDULE.subList(4, 5), 0), 0);
+		assertEquals(0, scorer.score(new ArrayList<Course>(), 0), 0);
+	}
+
+	/**
+	 * Tests startsBefore().
+	 */
+	@Test
+	public void testStartsBefore() {
+		ScheduleScorer scorer = ScheduleScorer.startsBefore(1000);
+		assertEquals(2, scorer.score(SCHEDULE, 0), 0);
+		assertEquals(0, ScheduleScorer.startsBefore(910).score(SCHEDULE, 0), 0);
+		assertEquals(1, ScheduleScorer.startsBefore(911).score(SCHEDULE, 0), 0);
+		try {
+			ScheduleScorer.startsBefore(960);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Invalid time", e.getMessage());
+		}
+	}
+
+	/**
+	 * Tests preferredInstructors().
+	 */
+	@Test
+	public void testPreferredInstructors() {
+		ScheduleScorer scorer = ScheduleScorer.preferredInstructors(Arrays.asList("jdyoung2", "jep"));
+		assertEquals(3, scorer.score(SCHEDULE, 0), 0);
+		assertEquals(0, scorer.score(SCHEDULE.subList(0, 1), 3), 0);
+		try {
+			ScheduleScorer.preferredInstructors(null);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Instructors cannot be null.", e.getMessage());
+		}
+	}
+
+	/**
+	 * Tests gaps().
+	 */
+	@Test
+	public void testGaps() {
+		ScheduleScorer scorer = ScheduleScorer.gaps();
+		//Monday and Wednesday each have 45 minutes between CSC116 and CSC230
+		assertEquals(90, scorer.score(SCHEDULE, 0), 0);
+		assertEquals(0, scorer.score(SCHEDULE, 1), 0);
+		assertEquals(0, scorer.score(SCHEDULE.subList(1, 3), 0), 0);
+	}
+
+	/**
+	 * Tests plus() and times().
+	 */
+	@Test
+	public void testPlusTimes() {
+		ScheduleScorer scorer = ScheduleScorer.daysOnCampus().times(10).plus(ScheduleScorer.gaps());
+		assertEquals(140, scorer.score(SCHEDULE, 0), 0);
+		assertEquals(50, scorer.score(SCHEDULE, 2), 0);
+		try {
+			ScheduleScorer.gaps().times(-1);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Invalid weight", e.getMessage());
+		}
+		try {
+			ScheduleScorer.gaps().plus(null);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Scorer cannot be null.", e.getMessage());
+		}
+	}
+
+}
@@ -7,6 +7,8 @@ import java.io.IOException;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Scanner;
 
 import org.junit.Before;
@@ -14,6 +16,9 @@ import org.junit.Test;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Activity;
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseLoadReport;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseSnapshotIO;
 
 /**
  * Tests the WolfScheduler class.
@@ -91,6 +96,140 @@ public class WolfSchedulerTest {
 		//Test with valid file containing 8 courses.  Will test other methods in other tests.
 		WolfScheduler ws2 = new WolfScheduler(validTestFile);
 		assertEquals(8, ws2.getCourseCatalog().length);		
+		assertEquals(1, ws2.getCatalogLoadReport().getDuplicateCount());
+	}
+	
+	/**
+	 * Tests WolfScheduler() with a catalog snapshot.
+	 * @throws IOException if the snapshot file cannot be created
+	 */
+	@Test
+	public void testWolfSchedulerSnapshot() throws IOException {
+		File snapshot = File.createTempFile("course_records", ".snap");
+		try {
+			Files.delete(snapshot.toPath());
+			
+			//First load reads the text file and writes the snapshot
+			WolfScheduler ws1 = new WolfScheduler(validTestFile, snapshot.getPath());
+			assertTrue(snapshot.exists());
+			
+			//Second load reads the snapshot
+			WolfScheduler ws2 = new WolfScheduler(validTestFile, snapshot.getPath());
+			assertArrayEquals(ws1.getCourseCatalog(), ws2.getCourseCatalog());
+			assertEquals(1, ws2.getCatalogLoadReport().getDuplicateCount());
+			assertTrue(ws2.addCourse(NAME, SECTION));
+			
+			try {
+				new WolfScheduler(invalidTestFile + ".missing", snapshot.getPath());
+				fail();
+			} catch (IllegalArgumentException e) {
+				assertEquals("Cannot find file.", e.getMessage());
+			}
+		} finally {
+			Files.deleteIfExists(snapshot.toPath());
+		}
+	}
+	
+	/**
+	 * Tests that a course records file changed between its parse and the snapshot write, as
+	 * when the catalog watcher reloads a file that is still being written, does not leave a
+	 * snapshot that the next load accepts.
+	 * @throws IOException if the files cannot be read or written
+	 */
+	@Test
+	public void testWolfSchedulerSnapshotChangedDuringParse() throws IOException {
+		File source = new File(validTestFile);
+		File snapshot = File.createTempFile("course_records", ".snap");
+		try {
+			Files.delete(snapshot.toPath());
+			
+			//Same steps as loading the catalog, with an edit after the parse
+			long length = source.length();
+			long modified = source.lastModified();
+			CourseLoadReport report = new CourseLoadReport();
+			ArrayList<Course> courses = CourseRecordIO.readCourseRecords(validTestFile, report);
+			Files.write(source.toPath(), "\nCSC316,Data Structures and Algorithms,001,3,jtking,MW,830,945"
+					.getBytes(), StandardOpenOption.APPEND);
+			assertTrue(source.setLastModified(modified + 2000));
+			assertFalse(CourseSnapshotIO.writeSnapshot(snapshot.getPath(), validTestFile, length, modified,
+					courses, report));
+			
+			//Next load parses the text again and snapshots the edited file
+			WolfScheduler ws1 = new WolfScheduler(validTestFile, snapshot.getPath());
+			assertEquals(9, ws1.getCourseCatalog().length);
+			assertNotNull(ws1.getCourseFromCatalog("CSC316", "001"));
+			assertTrue(snapshot.exists());
+			WolfScheduler ws2 = new WolfScheduler(validTestFile, snapshot.getPath());
+			assertArrayEquals(ws1.getCourseCatalog(), ws2.getCourseCatalog());
+		} finally {
+			Files.deleteIfExists(snapshot.toPath());
+		}
+	}
+	
+	/**
+	 * Test WolfScheduler.reloadCatalog().
+	 * @throws IOException if the temporary catalog cannot be written
+	 */
+	@Test
+	public void testReloadCatalog() throws IOException {
+		File catalog = File.createTempFile("course_records", ".txt");
+		try {
+			Files.write(catalog.toPath(), Files.readAllLines(new File(validTestFile).toPath()));
+			WolfScheduler ws = new WolfScheduler(catalog.getPath());
+			assertTrue(ws.addCourse(NAME, SECTION));
+			int size = ws.getCourseCatalog().length;
+			
+			//Reload a shorter catalog and keep the schedule
+			Files.write(catalog.toPath(), Files.readAllLines(new File(validTestFile).toPath()).subList(0, 3));
+			ws.reloadCatalog();
+			assertTrue(ws.getCourseCatalog().length < size);
+			assertEquals(3, ws.getCatalogLoadReport().getLinesRead());
+			assertEquals(1, ws.getScheduledActivities().length);
+			
+			//A failed reload keeps the current catalog
+			Files.delete(catalog.toPath());
+			try {
+				ws.reloadCatalog();
+				fail();
+			} catch (IllegalArgumentException e) {
+				assertEquals("Cannot find file.", e.getMessage());
+			}
+			assertEquals(3, ws.getCatalogLoadReport().getLinesRead());
+		} finally {
+			Files.deleteIfExists(catalog.toPath());
+		}
+	}
+	
+	/**
+	 * Test WolfScheduler.startCatalogWatch() and stopCatalogWatch().
+	 * @throws Exception if the temporary catalog cannot be written or the wait is interrupted
+	 */
+	@Test
+	public void testCatalogWatch() throws Exception {
+		Path dir = Files.createTempDirectory("catalog");
+		Path catalog = dir.resolve("course_records.txt");
+		try {
+			Files.write(catalog, Files.readAllLines(new File(validTestFile).toPath()).subList(0, 3));
+			WolfScheduler ws = new WolfScheduler(catalog.toString());
+			ws.startCatalogWatch();
+			ws.startCatalogWatch();
+			try {
+				Files.write(catalog, Files.readAllLines(new File(validTestFile).toPath()));
+				
+				//Some platforms poll for changes, so allow plenty of time
+				long deadline = System.currentTimeMillis() + 30000;
+				while (ws.getCatalogLoadReport().getLinesRead() == 3 && System.currentTimeMillis() < deadline) {
+					Thread.sleep(50);
+				}
+				assertTrue(ws.getCatalogLoadReport().getLinesRead() > 3);
+			} finally {
+				ws.stopCatalogWatch();
+				ws.stopCatalogWatch();
+			}
+		} finally {
+			Files.deleteIfExists(catalog);
+			Files.delete(dir);
+		}
 	}
 	
 	/**
@@ -108,6 +247,108 @@ public class WolfSchedulerTest {
 		assertEquals(c, ws.getCourseFromCatalog("CSC216", "001"));
 	}
 	
+	/**
+	 * Test WolfScheduler.getAddableCourseCatalog().
+	 */
+	@Test
+	public void testGetAddableCourseCatalog() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		assertEquals(8, ws.getAddableCourseCatalog().length);
+		
+		assertTrue(ws.addCourse(NAME, SECTION));
+		assertEquals(5, ws.getAddableCourseCatalog().length);
+		assertTrue(ws.addCourse("CSC226", "001"));
+		ws.addEvent("Lunch", "MW", 1200, 1230, 1, "");
+		String [][] addable = ws.getAddableCourseCatalog();
+		assertEquals(1, addable.length);
+		assertEquals("CSC116", addable[0][0]);
+		assertEquals("003", addable[0][1]);
+		
+		assertTrue(ws.removeActivity(2));
+		assertEquals(3, ws.getAddableCourseCatalog().length);
+		ws.resetSchedule();
+		assertEquals(8, ws.getAddableCourseCatalog().length);
+	}
+	
+	/**
+	 * Test WolfScheduler.getCourseConflicts().
+	 */
+	@Test
+	public void testGetCourseConflicts() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		assertEquals(0, ws.getCourseConflicts("CSC226", "001").length);
+		
+		assertTrue(ws.addCourse("CSC116", "001"));
+		ws.addEvent("Gym", "F", 1000, 1100, 1, "");
+		try {
+			ws.addCourse("CSC226", "001");
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("The course cannot be added due to a conflict.", e.getMessage());
+		}
+		
+		String [][] conflicts = ws.getCourseConflicts("CSC226", "001");
+		assertEquals(2, conflicts.length);
+		assertEquals("CSC116", conflicts[0][0]);
+		assertEquals("001", conflicts[0][1]);
+		assertEquals("MW 9:10AM-11:00AM", conflicts[0][3]);
+		assertEquals("M 9:35AM-10:25AM", conflicts[0][4]);
+		assertEquals("", conflicts[1][0]);
+		assertEquals("Gym", conflicts[1][2]);
+		assertEquals("F 10:00AM-10:25AM", conflicts[1][4]);
+		
+		assertEquals(0, ws.getCourseConflicts("CSC492", "001").length);
+	}
+	
+	/**
+	 * Test WolfScheduler.getCompatibleSections().
+	 */
+	@Test
+	public void testGetCompatibleSections() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		
+		String [][] compatible = ws.getCompatibleSections("CSC226", "001", "CSC116");
+		assertEquals(2, compatible.length);
+		assertEquals("002", compatible[0][1]);
+		assertEquals("003", compatible[1][1]);
+		assertEquals("MW 11:20AM-1:10PM", compatible[0][3]);
+		assertEquals(0, ws.getCompatibleSections("CSC492", "001", "CSC116").length);
+	}
+	
+	/**
+	 * Test WolfScheduler.generateSchedules().
+	 */
+	@Test
+	public void testGenerateSchedules() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		
+		String [][][] schedules = ws.generateSchedules(new String[] {"CSC116", "CSC226"});
+		assertEquals(2, schedules.length);
+		assertEquals("002", schedules[0][0][1]);
+		assertEquals("CSC226", schedules[0][1][0]);
+		assertEquals("003", schedules[1][0][1]);
+		assertEquals(0, ws.generateSchedules(new String[] {"CSC116", "CSC492"}).length);
+		
+		String [][][] first = ws.generateSchedules(new String[] {"CSC116", "CSC226"}, 1);
+		assertEquals(1, first.length);
+		assertArrayEquals(schedules[0][0], first[0][0]);
+		assertEquals(2, ws.generateSchedules(new String[] {"CSC116", "CSC226"}, 5).length);
+		
+		String [][][] best = ws.generateBestSchedules(new String[] {"CSC116", "CSC216"}, ScheduleScorer.daysOnCampus(), 2);
+		assertEquals(2, best.length);
+		assertEquals("001", best[0][0][1]);
+		assertEquals("002", best[0][1][1]);
+		assertEquals("001", best[1][0][1]);
+		assertEquals("601", best[1][1][1]);
+		
+		try {
+			ws.generateSchedules(new String[] {"CSC116", "CSC116"});
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("A course cannot be requested more than once.", e.getMessage());
+		}
+	}
+	
 	/**
 	 * Test WolfScheduler.addCourse().
 	 */
@@ -137,6 +378,42 @@ public class WolfSchedulerTest {
 		
 	}
 	
+	/**
+	 * Test WolfScheduler.swapSection().
+	 */
+	@Test
+	public void testSwapSection() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		assertFalse(ws.swapSection("CSC116", "001", "002"));
+		
+		assertTrue(ws.addCourse("CSC116", "001"));
+		assertTrue(ws.addCourse("CSC230", "001"));
+		assertTrue(ws.addCourse(NAME, SECTION));
+		
+		//CSC116-002 conflicts with CSC230-001, so CSC116-001 is kept
+		try {
+			ws.swapSection("CSC116", "001", "002");
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("The course cannot be added due to a conflict.", e.getMessage());
+		}
+		assertEquals("001", ws.getScheduledActivities()[0][1]);
+		
+		//CSC116-003 meets on the same days as CSC216-001 but at other times
+		assertTrue(ws.swapSection("CSC116", "001", "003"));
+		assertEquals(3, ws.getScheduledActivities().length);
+		assertEquals("CSC116", ws.getScheduledActivities()[0][0]);
+		assertEquals("003", ws.getScheduledActivities()[0][1]);
+		assertFalse(ws.swapSection("CSC116", "001", "002"));
+		assertFalse(ws.swapSection("CSC116", "003", "004"));
+		
+		//The new section is not a duplicate of the section it replaces
+		assertTrue(ws.swapSection(NAME, SECTION, "002"));
+		assertEquals("002", ws.getScheduledActivities()[2][1]);
+		assertTrue(ws.removeActivity(2));
+		assertTrue(ws.addCourse(NAME, SECTION));
+	}
+	
 	/**
 	 * Test WolfScheduler.addEvent().
 	 */
@@ -164,6 +441,18 @@ public class WolfSchedulerTest {
 		} catch (IllegalArgumentException e) {
 			assertEquals("You have already created an event called Exercise", e.getMessage());
 		}
+		
+		//Events in alternate weeks do not conflict
+		ws.resetSchedule();
+		ws.addEvent("Lab A", "F", 900, 1000, 2, 1, "");
+		ws.addEvent("Lab B", "F", 900, 1000, 2, 2, "");
+		assertEquals(2, ws.getScheduledActivities().length);
+		try {
+			ws.addEvent("Lab C", "F", 930, 1030, 4, 3, "");
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("The event cannot be added due to a conflict.", e.getMessage());
+		}
 	}
 	
 	/**